@@ -0,0 +1,122 @@
+package elyra;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import elyra.storage.Storage;
+import elyra.task.SyntheticTasks;
+
+/**
+ * Load-tests the command server over localhost with many clients at once.
+ * The reads group only sends commands that read the tasks, which the server runs in parallel; the mixed group adds
+ * clients changing a task, which run one at a time, to show that they do not hold the readers up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommandServerBenchmark {
+    @Param({"1000", "100000"})
+    public int taskCount;
+
+    private Path directory;
+    private Elyra elyra;
+    private CommandServer server;
+    private HttpClient client;
+    private URI commandUri;
+
+    /**
+     * Writes a data file holding the synthetic tasks and starts a server on it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("elyra-jmh");
+        String filePath = this.directory.resolve("elyra.txt").toString();
+        new Storage(filePath).saveTasks(SyntheticTasks.create(this.taskCount));
+        this.elyra = new Elyra(filePath);
+        this.server = new CommandServer(this.elyra, 0);
+        this.server.start();
+        this.client = HttpClient.newHttpClient();
+        this.commandUri = URI.create("http://127.0.0.1:" + this.server.getPort() + CommandServer.COMMAND_PATH);
+    }
+
+    /**
+     * Stops the server and deletes the data files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.server.stop();
+        this.elyra.shutdown();
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("reads")
+    @GroupThreads(4)
+    public String readsList() throws IOException, InterruptedException {
+        return post("list --limit 20");
+    }
+
+    @Benchmark
+    @Group("reads")
+    @GroupThreads(4)
+    public String readsFind() throws IOException, InterruptedException {
+        return post("find book --limit 20");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public String mixedList() throws IOException, InterruptedException {
+        return post("list --limit 20");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public String mixedFind() throws IOException, InterruptedException {
+        return post("find book --limit 20");
+    }
+
+    /**
+     * Marks the first task again and again, so that every call changes the tasks and saves them without growing
+     * the list.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public String mixedMark() throws IOException, InterruptedException {
+        return post("mark 1");
+    }
+
+    private String post(String command) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(this.commandUri)
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
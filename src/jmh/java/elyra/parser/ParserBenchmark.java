@@ -0,0 +1,33 @@
+package elyra.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import elyra.command.Command;
+
+/**
+ * Measures parsing a single command of each common shape.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+    @Param({"list", "todo read CS2103 notes", "deadline iP submission /by 2026-02-15 23:59",
+        "event project meeting /from 2026-02-20 14:00 /to 2026-02-20 15:30",
+        "update 2 /field by /with 2026-02-16 18:00", "mark 3-7,9", "find tutorial"})
+    public String userInput;
+
+    private final Parser parser = new Parser();
+
+    @Benchmark
+    public Command parseCommand() {
+        return this.parser.parseCommand(this.userInput);
+    }
+}
@@ -0,0 +1,89 @@
+package elyra.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import elyra.task.SyntheticTasks;
+import elyra.task.Task;
+import elyra.task.TaskList;
+
+/**
+ * Measures loading and saving a whole task list in both storage formats.
+ * A binary load only validates the file and decodes tasks lazily, so loading and then reading every task is
+ * measured separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"TEXT", "BINARY"})
+    public StorageFormat format;
+
+    private Path directory;
+    private Storage storage;
+    private List<Task> tasks;
+
+    /**
+     * Writes a data file holding the synthetic tasks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("elyra-jmh");
+        this.storage = new Storage(this.directory.resolve("elyra.txt").toString(), this.format);
+        this.tasks = SyntheticTasks.create(this.taskCount);
+        this.storage.saveTasks(this.tasks);
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.storage.awaitCompaction();
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public TaskList loadTasks() throws IOException {
+        return this.storage.loadTasks();
+    }
+
+    /**
+     * Loads the tasks and reads every one of them, as listing them all would.
+     */
+    @Benchmark
+    public void loadAndReadAllTasks(Blackhole blackhole) throws IOException {
+        for (Task task : this.storage.loadTasks().getTasks()) {
+            blackhole.consume(task);
+        }
+    }
+
+    @Benchmark
+    public void saveTasks() throws IOException {
+        this.storage.saveTasks(this.tasks);
+    }
+}
@@ -0,0 +1,44 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing date-times with DateTimeCodec against parsing them with the equivalent DateTimeFormatter.
+ * Whole-file loads, where the storage layout is parsed once per deadline and twice per event, are measured by
+ * StorageBenchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimeCodecBenchmark {
+    private final String inputText = "2026-02-15 23:59";
+    private final String storageText = "2026-02-15T23:59:00";
+
+    @Benchmark
+    public LocalDateTime parseInputWithFormatter() {
+        return LocalDateTime.parse(this.inputText, DateTimeCodec.INPUT_FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime parseInputWithCodec() {
+        return DateTimeCodec.parseInput(this.inputText);
+    }
+
+    @Benchmark
+    public LocalDateTime parseStorageWithFormatter() {
+        return LocalDateTime.parse(this.storageText, DateTimeCodec.STORAGE_FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime parseStorageWithCodec() {
+        return DateTimeCodec.parseStorage(this.storageText);
+    }
+}
@@ -0,0 +1,46 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible task lists for benchmarks.
+ * To-dos, deadlines and events come in equal parts, with descriptions drawn from a small vocabulary so that keyword
+ * searches find a realistic share of matches, and dates spread over two years from the start of 2024.
+ */
+public final class SyntheticTasks {
+    public static final String[] WORDS = {"read", "book", "submit", "report", "meeting", "project", "lecture",
+        "tutorial", "review", "notes", "groceries", "gym", "call", "email", "plan", "trip"};
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MINUTES_IN_TWO_YEARS = 2 * 365 * 24 * 60;
+    private static final long SEED = 2103;
+
+    private SyntheticTasks() {
+    }
+
+    /**
+     * Returns the given number of tasks, the same ones on every call.
+     *
+     * @param count Number of tasks to generate.
+     * @return Generated tasks, cycling through to-dos, deadlines and events.
+     */
+    public static List<Task> create(int count) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + i;
+            boolean isDone = random.nextInt(4) == 0;
+            LocalDateTime time = START.plusMinutes(random.nextInt(MINUTES_IN_TWO_YEARS));
+            Task task = switch (i % 3) {
+                case 0 -> new ToDo(description, isDone);
+                case 1 -> new Deadline(description, isDone, time);
+                default -> new Event(description, isDone, time, time.plusMinutes(30 + random.nextInt(150)));
+            };
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,53 @@
+package elyra.task;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures keyword search over task lists of growing size.
+ * findTasksByKeyword searches a list whose keyword index was built during setup, so only the search is measured;
+ * buildIndexAndFindTasksByKeyword makes the first search of a fresh list, which builds the index too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int taskCount;
+
+    /** A common word, a substring spanning two words and a keyword that matches nothing. */
+    @Param({"book", "ort 99", "absent"})
+    public String keyword;
+
+    private List<Task> taskContents;
+    private TaskList tasks;
+
+    /**
+     * Creates the task list and builds its keyword index.
+     */
+    @Setup
+    public void setUp() {
+        this.taskContents = SyntheticTasks.create(this.taskCount);
+        this.tasks = new TaskList(this.taskContents);
+        this.tasks.findTasksByKeyword(SyntheticTasks.WORDS[0]);
+    }
+
+    @Benchmark
+    public List<Task> findTasksByKeyword() {
+        return this.tasks.findTasksByKeyword(this.keyword);
+    }
+
+    @Benchmark
+    public List<Task> buildIndexAndFindTasksByKeyword() {
+        return new TaskList(this.taskContents).findTasksByKeyword(this.keyword);
+    }
+}
@@ -0,0 +1,63 @@
+package elyra.ui;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import elyra.task.SyntheticTasks;
+import elyra.task.Task;
+
+/**
+ * Measures rendering the response of the list command: as one text, as a listing formatting a screenful of rows,
+ * and streamed row by row to a sink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UiBenchmark {
+    private static final int ROWS_SHOWN = 12;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int taskCount;
+
+    private final Ui ui = new Ui();
+    private List<Task> tasks;
+
+    /**
+     * Creates the tasks to list.
+     */
+    @Setup
+    public void setUp() {
+        this.tasks = SyntheticTasks.create(this.taskCount);
+    }
+
+    @Benchmark
+    public String showUserInputList() {
+        return this.ui.showUserInputList(this.tasks);
+    }
+
+    @Benchmark
+    public String listUserTasks() {
+        TaskListing listing = this.ui.listUserTasks(this.tasks, Page.ALL);
+        StringBuilder shownRows = new StringBuilder();
+        for (int position = 0; position < Math.min(ROWS_SHOWN, listing.size()); position++) {
+            shownRows.append(listing.formatRow(position));
+        }
+        return shownRows.toString();
+    }
+
+    @Benchmark
+    public void writeUserTasks() throws IOException {
+        this.ui.listUserTasks(this.tasks, Page.ALL).writeTo(Writer.nullWriter());
+    }
+}
@@ -0,0 +1,138 @@
+package elyra;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import elyra.command.ExecutionResult;
+import elyra.ui.Ui;
+
+/**
+ * Runs a script of commands against Elyra without the GUI, one command per line.
+ * Changes are only saved every {@value #FLUSH_INTERVAL} commands and once at the end, instead of after every
+ * command, so that large imports do not spend their time writing to disk.
+ */
+public class BatchRunner {
+    public static final String STDIN_SCRIPT = "-";
+    private static final int FLUSH_INTERVAL = 10_000;
+
+    private final Ui ui = new Ui();
+    private final Elyra elyra;
+    private final PrintWriter output;
+    private int commandCount = 0;
+    private int failedCount = 0;
+
+    /**
+     * Creates a new BatchRunner that runs commands against the given Elyra instance.
+     *
+     * @param elyra Elyra instance to run commands against.
+     * @param output Writer receiving the response of every command.
+     */
+    public BatchRunner(Elyra elyra, PrintWriter output) {
+        this.elyra = elyra;
+        this.output = output;
+    }
+
+    /**
+     * Runs the script at the given path, or standard input if the path is {@value #STDIN_SCRIPT}, against Elyra's
+     * default data file, printing each response to standard output and a summary to standard error.
+     *
+     * @param scriptPath Path of the script to run.
+     * @return Exit status: 0 if every command succeeded and was saved, 1 otherwise.
+     */
+    public static int runScript(String scriptPath) {
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        Elyra elyra = new Elyra();
+        if (elyra.haveLoadError()) {
+            System.err.println(elyra.getLoadDataErrorMessage());
+        }
+
+        long startTime = System.nanoTime();
+        boolean isSaved;
+        try (BufferedReader script = openScript(scriptPath)) {
+            BatchRunner runner = new BatchRunner(elyra, output);
+            isSaved = runner.run(script);
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            System.err.printf("Ran %d commands (%d failed) in %d ms.%n",
+                    runner.commandCount, runner.failedCount, elapsedMillis);
+            return isSaved && runner.failedCount == 0 ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Could not read the script: " + e.getMessage());
+            return 1;
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Runs every command of the script until it ends or a bye command is reached, then saves the changes and
+     * shuts Elyra's storage down.
+     * Blank lines are skipped, and the run stops early if saving fails.
+     *
+     * @param script Reader over the script.
+     * @return True if every change was saved.
+     * @throws IOException If the script cannot be read.
+     */
+    public boolean run(BufferedReader script) throws IOException {
+        this.elyra.setSaveDeferred(true);
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ExecutionResult result = this.elyra.getResponse(line);
+                this.commandCount += 1;
+                if (result.isError()) {
+                    this.failedCount += 1;
+                }
+                result.writeTo(this.output);
+                this.output.println();
+                this.output.println();
+                if (this.commandCount % FLUSH_INTERVAL == 0 && !flush()) {
+                    return false;
+                }
+                if (result.isExit()) {
+                    break;
+                }
+            }
+            return shutdown();
+        } finally {
+            this.elyra.setSaveDeferred(false);
+        }
+    }
+
+    private boolean flush() {
+        try {
+            this.elyra.flush();
+            return true;
+        } catch (IOException e) {
+            this.output.println(this.ui.showSaveDataErrorMessage(e.getMessage()));
+            return false;
+        }
+    }
+
+    private boolean shutdown() {
+        try {
+            this.elyra.shutdown();
+            return true;
+        } catch (IOException e) {
+            this.output.println(this.ui.showSaveDataErrorMessage(e.getMessage()));
+            return false;
+        }
+    }
+
+    private static BufferedReader openScript(String scriptPath) throws IOException {
+        if (scriptPath.equals(STDIN_SCRIPT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8);
+    }
+}
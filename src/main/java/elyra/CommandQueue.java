@@ -0,0 +1,128 @@
+package elyra;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import elyra.command.ExecutionResult;
+import elyra.ui.Ui;
+
+/**
+ * Runs user commands against Elyra on a dedicated worker thread, one at a time and in the order submitted, so that
+ * the thread submitting them never waits on parsing, executing or saving.
+ * Each result is handed back through the given executor, e.g. Platform::runLater for the GUI, in submission order.
+ * Elyra itself can be created on the worker too, so that loading its tasks does not hold up the caller; commands
+ * submitted meanwhile wait for the load. Elyra and its tasks are only touched by the worker thread.
+ */
+public class CommandQueue {
+    private final Ui ui = new Ui();
+    private final Executor resultExecutor;
+    private final ExecutorService worker;
+    private Elyra elyra; // Only accessed on the worker thread; null until loaded, or if Elyra failed to start.
+
+    /**
+     * Creates a new CommandQueue running commands against the given Elyra instance.
+     *
+     * @param elyra Elyra instance to run commands against.
+     * @param resultExecutor Executor the results are handed back through.
+     */
+    public CommandQueue(Elyra elyra, Executor resultExecutor) {
+        this(() -> elyra, resultExecutor);
+    }
+
+    /**
+     * Creates a new CommandQueue that creates Elyra on the worker thread, then runs commands against it.
+     * Returns without waiting for Elyra to be created.
+     *
+     * @param elyraLoader Creates the Elyra instance, loading its tasks.
+     * @param resultExecutor Executor the results are handed back through.
+     */
+    public CommandQueue(Supplier<Elyra> elyraLoader, Executor resultExecutor) {
+        this.resultExecutor = resultExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elyra-commands");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.worker.execute(() -> {
+            try {
+                this.elyra = elyraLoader.get();
+            } catch (RuntimeException e) {
+                // Commands are answered with an error instead, so the caller keeps running.
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Calls the handler through the result executor once Elyra is created, before any command submitted later.
+     *
+     * @param loadHandler Handler receiving the Elyra instance, or null if it failed to start.
+     */
+    public void whenLoaded(Consumer<Elyra> loadHandler) {
+        assert loadHandler != null : "whenLoaded called with null handler";
+        this.worker.execute(() -> {
+            Elyra loadedElyra = this.elyra;
+            this.resultExecutor.execute(() -> loadHandler.accept(loadedElyra));
+        });
+    }
+
+    /**
+     * Queues the user input to be run after every input submitted before it, and returns without waiting.
+     *
+     * @param userInput The input string from the user.
+     * @param resultHandler Handler receiving the result, called through the result executor.
+     */
+    public void submit(String userInput, Consumer<ExecutionResult> resultHandler) {
+        assert resultHandler != null : "submit called with null handler";
+        this.worker.execute(() -> {
+            ExecutionResult result = run(userInput);
+            this.resultExecutor.execute(() -> resultHandler.accept(result));
+        });
+    }
+
+    /**
+     * Waits for every queued command to run, then saves every change and shuts Elyra's storage down.
+     * Called once before the application exits, so that no queued command or change is lost.
+     *
+     * @throws IOException If an error occurs while saving.
+     */
+    public void shutdown() throws IOException {
+        Future<?> shutdown = this.worker.submit(() -> {
+            if (this.elyra != null) {
+                this.elyra.shutdown();
+            }
+            return null;
+        });
+        this.worker.shutdown();
+        try {
+            shutdown.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving tasks.");
+        }
+    }
+
+    private ExecutionResult run(String userInput) {
+        if (this.elyra == null) {
+            return new ExecutionResult(false, false, this.ui.showStartupErrorMessage(), true);
+        }
+        try {
+            return this.elyra.getResponse(userInput);
+        } catch (RuntimeException e) {
+            // Nothing else would report the failure, and the GUI would wait for this result forever.
+            e.printStackTrace();
+            return new ExecutionResult(false, false, this.ui.showUnexpectedErrorMessage(userInput), true);
+        }
+    }
+}
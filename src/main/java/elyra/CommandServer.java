@@ -0,0 +1,208 @@
+package elyra;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import elyra.command.ExecutionResult;
+import elyra.ui.Ui;
+
+/**
+ * Serves Elyra's commands over HTTP on the loopback interface, so that other local tools can drive it.
+ * Each POST to {@value #COMMAND_PATH} carries one command as its UTF-8 body, exactly as it would be typed, and is
+ * answered with the result as a JSON object.
+ * Requests are handled on a pool of threads: commands that only read the tasks, such as list and find, run in
+ * parallel on a snapshot of them, even while Elyra runs a command that changes them.
+ * Answers go out as headers, then a body. Unless the {@value #NO_DELAY_PROPERTY} system property is true when the
+ * first server is created, Nagle's algorithm holds the body until the client acknowledges the headers, which it
+ * delays by up to 40 ms. The launcher sets the property for server mode, and the build sets it for tests and
+ * benchmarks.
+ */
+public class CommandServer {
+    public static final int DEFAULT_PORT = 8080;
+    static final String COMMAND_PATH = "/command";
+    private static final int MAX_COMMAND_BYTES = 64 * 1024;
+    static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Ui ui = new Ui();
+    private final Elyra elyra;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    /**
+     * Creates a new CommandServer running commands against the given Elyra instance, bound but not started yet.
+     *
+     * @param elyra Elyra instance to run commands against.
+     * @param port Port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public CommandServer(Elyra elyra, int port) throws IOException {
+        assert elyra != null : "CommandServer created with null Elyra";
+        this.elyra = elyra;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger handlerCount = new AtomicInteger();
+        this.handlers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "elyra-server-" + handlerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(this.handlers);
+        this.server.createContext(COMMAND_PATH, this::handle);
+    }
+
+    /**
+     * Serves Elyra's default data file on the given port until the process is stopped, then saves every change.
+     * Returns once the server is listening.
+     *
+     * @param portText Port to listen on, as typed by the user.
+     * @return Exit status: 0 if the server started, 1 otherwise.
+     */
+    public static int runServer(String portText) {
+        int port;
+        try {
+            port = Integer.parseInt(portText);
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (port < 0 || port > 65535) {
+            System.err.println("The port must be a number between 0 and 65535.");
+            return 1;
+        }
+
+        Elyra elyra = new Elyra();
+        if (elyra.haveLoadError()) {
+            System.err.println(elyra.getLoadDataErrorMessage());
+        }
+        elyra.setSaveErrorListener(System.err::println);
+        CommandServer commandServer;
+        try {
+            commandServer = new CommandServer(elyra, port);
+        } catch (IOException e) {
+            System.err.println("Could not listen on port " + port + ": " + e.getMessage());
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            commandServer.stop();
+            try {
+                elyra.shutdown();
+            } catch (IOException e) {
+                System.err.println(e.getMessage());
+            }
+        }, "elyra-server-shutdown"));
+        commandServer.start();
+        System.err.printf("Elyra is listening on http://%s:%d%s%n",
+                InetAddress.getLoopbackAddress().getHostAddress(), commandServer.getPort(), COMMAND_PATH);
+        return 0;
+    }
+
+    /**
+     * Starts handling requests in the background.
+     */
+    public void start() {
+        this.server.start();
+    }
+
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests and waits up to a second for those being handled to be answered.
+     * Elyra itself is left running, so that its owner can shut it down.
+     */
+    public void stop() {
+        this.server.stop(1);
+        this.handlers.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestURI().getPath().equals(COMMAND_PATH)) {
+                sendJson(exchange, 404, formatError("There is nothing at " + exchange.getRequestURI().getPath()
+                        + ". Send commands to " + COMMAND_PATH + "."));
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendJson(exchange, 405, formatError("Send commands with POST."));
+                return;
+            }
+            byte[] body = exchange.getRequestBody().readNBytes(MAX_COMMAND_BYTES + 1);
+            if (body.length > MAX_COMMAND_BYTES) {
+                sendJson(exchange, 413, formatError("Commands cannot be longer than " + MAX_COMMAND_BYTES
+                        + " bytes."));
+                return;
+            }
+            String userInput = new String(body, StandardCharsets.UTF_8);
+            sendJson(exchange, 200, formatResult(run(userInput)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ExecutionResult run(String userInput) {
+        try {
+            return this.elyra.getResponse(userInput);
+        } catch (RuntimeException e) {
+            // The client is still owed an answer, and nothing else would report the failure.
+            e.printStackTrace();
+            return new ExecutionResult(false, false, this.ui.showUnexpectedErrorMessage(userInput), true);
+        }
+    }
+
+    private static String formatResult(ExecutionResult result) throws IOException {
+        StringBuilder response = new StringBuilder();
+        result.writeTo(response);
+        StringBuilder json = new StringBuilder(response.length() + 64);
+        json.append("{\"response\":");
+        appendJsonString(json, response);
+        json.append(",\"isError\":").append(result.isError());
+        json.append(",\"isExit\":").append(result.isExit());
+        json.append(",\"isSave\":").append(result.isSave());
+        return json.append('}').toString();
+    }
+
+    private static String formatError(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        appendJsonString(json, message);
+        return json.append('}').toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, CharSequence text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package elyra;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import elyra.command.ExecutionResult;
+import elyra.ui.Ui;
+
+/**
+ * Chats with Elyra in the console, reading one command per line and printing every response between dividers.
+ * Nothing here touches JavaFX, so the console starts without initializing the GUI toolkit: it is what scripted and
+ * server-side use, and what text-ui-test runs.
+ */
+public class ConsoleRunner {
+    private static final String INDENTATION = " ".repeat(4);
+    private static final String DIVIDER = INDENTATION + "-".repeat(60);
+
+    private final Ui ui = new Ui();
+    private final Elyra elyra;
+    private final PrintWriter output;
+
+    /**
+     * Creates a new ConsoleRunner that chats with the given Elyra instance.
+     *
+     * @param elyra Elyra instance to run commands against.
+     * @param output Writer receiving the greeting and every response.
+     */
+    public ConsoleRunner(Elyra elyra, PrintWriter output) {
+        this.elyra = elyra;
+        this.output = output;
+    }
+
+    /**
+     * Chats with Elyra over standard input and standard output, against Elyra's default data file.
+     *
+     * @return Exit status: 0 if every change was saved, 1 otherwise.
+     */
+    public static int runConsole() {
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            return new ConsoleRunner(new Elyra(), output).run(input) ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Could not read the input: " + e.getMessage());
+            return 1;
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Starts the console without going through the Launcher, so that it can be compiled and run without JavaFX.
+     */
+    public static void main(String[] args) {
+        System.exit(runConsole());
+    }
+
+    /**
+     * Greets the user, then runs every command read until the input ends or a bye command is reached, saving
+     * changes after every command like the GUI does. Shuts Elyra's storage down at the end.
+     *
+     * @param input Reader over the user's commands.
+     * @return True if every change was saved.
+     * @throws IOException If the input cannot be read.
+     */
+    public boolean run(BufferedReader input) throws IOException {
+        this.elyra.setSaveErrorListener(this::print);
+        print(this.elyra.getGreeting());
+        if (this.elyra.haveLoadError()) {
+            print(this.elyra.getLoadDataErrorMessage());
+        }
+
+        String line;
+        while ((line = input.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            ExecutionResult result = this.elyra.getResponse(line);
+            print(result);
+            if (result.isExit()) {
+                break;
+            }
+        }
+        return shutdown();
+    }
+
+    private boolean shutdown() {
+        try {
+            this.elyra.shutdown();
+            return true;
+        } catch (IOException e) {
+            print(this.ui.showSaveDataErrorMessage(e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Prints a message between dividers, indented.
+     */
+    private void print(String message) {
+        synchronized (this.output) {
+            this.output.print(DIVIDER + System.lineSeparator());
+            new IndentingAppendable(this.output).append(message).finish();
+            this.output.print(DIVIDER + System.lineSeparator());
+            this.output.flush();
+        }
+    }
+
+    /**
+     * Prints a response between dividers, indenting it as it is written, so that a long listing reaches the
+     * console row by row instead of being built in memory first.
+     * The output is locked meanwhile, so that a save error reported by the background writer is never interleaved
+     * with the response.
+     */
+    private void print(ExecutionResult result) {
+        synchronized (this.output) {
+            this.output.print(DIVIDER + System.lineSeparator());
+            IndentingAppendable body = new IndentingAppendable(this.output);
+            try {
+                result.writeTo(body);
+            } catch (IOException e) {
+                throw new AssertionError("Unreachable state: A PrintWriter failed to append.", e);
+            }
+            body.finish();
+            this.output.print(DIVIDER + System.lineSeparator());
+            this.output.flush();
+        }
+    }
+
+    /**
+     * Represents a sink that indents every line written to it and ends it with the system line separator.
+     */
+    private static final class IndentingAppendable implements Appendable {
+        private final PrintWriter output;
+        private boolean isAtLineStart = true;
+        private boolean isEmpty = true;
+        private char previous;
+
+        private IndentingAppendable(PrintWriter output) {
+            this.output = output;
+        }
+
+        @Override
+        public IndentingAppendable append(CharSequence text) {
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public IndentingAppendable append(CharSequence text, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(text.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public IndentingAppendable append(char c) {
+            boolean isLineBreak = c == '\n' || c == '\r';
+            boolean isEndOfCrLf = c == '\n' && this.previous == '\r';
+            this.previous = c;
+            this.isEmpty = false;
+            if (isEndOfCrLf) {
+                return this;
+            }
+            if (this.isAtLineStart) {
+                this.output.print(INDENTATION);
+            }
+            if (isLineBreak) {
+                this.output.print(System.lineSeparator());
+            } else {
+                this.output.print(c);
+            }
+            this.isAtLineStart = isLineBreak;
+            return this;
+        }
+
+        // Ends the last line, if it is not ended yet.
+        private void finish() {
+            if (this.isEmpty) {
+                this.output.print(INDENTATION);
+            }
+            if (this.isEmpty || !this.isAtLineStart) {
+                this.output.print(System.lineSeparator());
+            }
+        }
+    }
+}
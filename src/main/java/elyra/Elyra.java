@@ -1,27 +1,44 @@
 package elyra;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import elyra.command.Command;
 import elyra.command.Context;
 import elyra.command.ExecutionResult;
 import elyra.parser.Parser;
+import elyra.storage.PersistenceScheduler;
+import elyra.storage.RecoveredTasks;
 import elyra.storage.Storage;
+import elyra.storage.StorageFormat;
 import elyra.task.TaskList;
 import elyra.ui.Ui;
 
 /**
  * Represents the main chatbot application.
  * An Elyra object handles user interactions and manages tasks through a command-based interface.
+ * Commands may be run from several threads. Commands that change the tasks run one at a time, and each publishes a
+ * read-only snapshot of the tasks once done. Commands that only read the tasks run on the latest snapshot without
+ * any lock, so they never wait for each other or for a command changing the tasks. The GUI still runs every command
+ * on one thread through a CommandQueue, so that replies come back in order.
  */
 public class Elyra {
-    private final String name = "Elyra";
+    public static final String NAME = "Elyra";
     private final Ui ui = new Ui();
     private final Parser parser = new Parser();
     private final TaskList tasks;
     private final Storage storage;
+    private final PersistenceScheduler persistenceScheduler;
+    private final Lock writeLock = new ReentrantLock();
+    // Only ever holds whole commands' changes, since it is replaced once a command is done changing the tasks.
+    private volatile TaskList publishedTasks;
+    private Consumer<String> saveErrorListener = message -> { };
     private boolean hasLoadError = false;
     private String loadDataErrorMessage = "";
+    private boolean isSaveDeferred = false;
+    private boolean hasDeferredChanges = false;
 
     /**
      * Creates a new Elyra chatbot instance with the specified file path for data storage.
@@ -29,30 +46,44 @@ public class Elyra {
      * @param filePath Path to the file where tasks will be stored and loaded from.
      */
     public Elyra(String filePath) {
-        this.storage = new Storage(filePath);
+        this(filePath, StorageFormat.TEXT);
+    }
+
+    /**
+     * Creates a new Elyra chatbot instance with the specified file path and format for data storage.
+     *
+     * @param filePath Path to the file where tasks will be stored and loaded from.
+     * @param storageFormat Format to save the file in; a file in the other format is migrated on load.
+     */
+    public Elyra(String filePath, StorageFormat storageFormat) {
+        this.storage = new Storage(filePath, storageFormat);
+        this.persistenceScheduler = new PersistenceScheduler(this.storage);
+        this.persistenceScheduler.setErrorHandler(err ->
+                this.saveErrorListener.accept(ui.showSaveDataErrorMessage(err.getMessage())));
         TaskList loadedTasks;
         try {
             loadedTasks = storage.loadTasks();
         } catch (IOException err) {
             this.hasLoadError = true;
-            this.loadDataErrorMessage = ui.showLoadDataErrorMessage(err.getMessage());
-            loadedTasks = new TaskList();
+            loadedTasks = recoverTasks(err);
         }
         this.tasks = loadedTasks;
+        this.publishedTasks = loadedTasks.snapshot();
     }
 
     /**
-     * Creates a new Elyra chatbot instance with the default file path for data storage.
+     * Creates a new Elyra chatbot instance with the default file path for data storage,
+     * in the format selected by the {@value StorageFormat#SYSTEM_PROPERTY} system property.
      */
     public Elyra() {
-        this(Storage.DEFAULT_PATH);
+        this(Storage.DEFAULT_PATH, StorageFormat.fromSystemProperty());
     }
 
     /**
      * Returns a greeting message from Elyra.
      */
     public String getGreeting() {
-        return ui.greetUser(this.name);
+        return ui.greetUser(NAME);
     }
 
     public boolean haveLoadError() {
@@ -65,6 +96,9 @@ public class Elyra {
 
     /**
      * Processes the user input and returns the corresponding response.
+     * Changes are handed to a background writer, so this returns without waiting for them to be saved.
+     * A command that only reads the tasks runs at once on the latest snapshot of them, while a command that changes
+     * them waits for any other such command running on another thread.
      *
      * @param userInput The input string from the user.
      * @return An ExecutionResult containing the response and execution status.
@@ -75,22 +109,110 @@ public class Elyra {
             Command currentCommand = parser.parseCommand(userInput);
             assert currentCommand != null : "Parser returned null Command";
 
-            Context currentContext = new Context(this.ui, this.tasks);
-            result = currentCommand.execute(currentContext);
-            assert result != null : "Command.execute returned null ExecutionResult";
-
-            if (result.isSave()) {
-                storage.saveTasks(this.tasks);
+            if (currentCommand.isMutating()) {
+                result = executeMutating(currentCommand);
+            } else {
+                result = execute(currentCommand, this.publishedTasks);
             }
         } catch (IllegalArgumentException
                  | IndexOutOfBoundsException
                  | UnsupportedOperationException err) {
             String response = ui.showUserInputErrorMessage(err.getMessage(), userInput);
-            result = new ExecutionResult(false, false, response);
-        } catch (IOException err) {
-            String response = ui.showSaveDataErrorMessage(err.getMessage());
-            result = new ExecutionResult(false, false, response);
+            result = new ExecutionResult(false, false, response, true);
         }
         return result;
     }
+
+    /**
+     * Sets whether changes are saved after every command, or only kept until {@link #flush()} is called.
+     * Deferring saves lets a long run of commands be persisted with a single write.
+     *
+     * @param isSaveDeferred Whether to defer saving changes.
+     */
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    /**
+     * Saves all changes made since the last save, if any.
+     *
+     * @throws IOException If an error occurs while saving.
+     */
+    public void flush() throws IOException {
+        this.writeLock.lock();
+        try {
+            if (!this.hasDeferredChanges) {
+                return;
+            }
+            this.persistenceScheduler.saveNow(this.tasks);
+            this.hasDeferredChanges = false;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sets the listener shown the error message when saving in the background fails.
+     * The listener is called on the background writer thread.
+     *
+     * @param saveErrorListener Listener receiving the formatted error message.
+     */
+    public void setSaveErrorListener(Consumer<String> saveErrorListener) {
+        assert saveErrorListener != null : "setSaveErrorListener called with null listener";
+        this.saveErrorListener = saveErrorListener;
+    }
+
+    /**
+     * Saves every change not saved yet and waits for background storage work to finish.
+     * Called once before the application exits, so that no change is lost or cut short.
+     *
+     * @throws IOException If an error occurs while saving.
+     */
+    public void shutdown() throws IOException {
+        this.writeLock.lock();
+        try {
+            this.persistenceScheduler.shutdown(this.tasks);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    private ExecutionResult executeMutating(Command command) {
+        this.writeLock.lock();
+        try {
+            return execute(command, this.tasks);
+        } finally {
+            // Published even if the command failed halfway, so that readers see whatever it did change.
+            this.publishedTasks = this.tasks.snapshot();
+            this.writeLock.unlock();
+        }
+    }
+
+    private ExecutionResult execute(Command command, TaskList tasks) {
+        Context currentContext = new Context(this.ui, tasks);
+        ExecutionResult result = command.execute(currentContext);
+        assert result != null : "Command.execute returned null ExecutionResult";
+        assert command.isMutating() || !result.isSave() : "A command that only reads the tasks asked to save them";
+
+        if (result.isSave() && this.isSaveDeferred) {
+            this.hasDeferredChanges = true;
+        } else if (result.isSave()) {
+            this.persistenceScheduler.requestSave(this.tasks);
+        }
+        return result;
+    }
+
+    private TaskList recoverTasks(IOException loadError) {
+        try {
+            RecoveredTasks recoveredTasks = storage.recoverTasks();
+            this.loadDataErrorMessage = ui.showRecoveredDataMessage(loadError.getMessage(),
+                    recoveredTasks.quarantinedCount(), recoveredTasks.quarantinePath().toString());
+            return recoveredTasks.tasks();
+        } catch (IOException err) {
+            this.loadDataErrorMessage = ui.showLoadDataErrorMessage(loadError.getMessage());
+            // The journal cannot be appended to a corrupted file, so the first save rewrites it entirely.
+            this.persistenceScheduler.requireFullSave();
+            return new TaskList();
+        }
+    }
 }
@@ -6,11 +6,60 @@ import javafx.application.Application;
  * A launcher class to workaround classpath issues.
  */
 public class Launcher {
+    private static final String BATCH_OPTION = "--batch";
+    private static final String CONSOLE_OPTION = "--console";
+    private static final String SERVER_OPTION = "--server";
+    private static final String GREET_OPTION = "--greet";
+    private static final String CDS_TRAINING_OPTION = "--cds-training";
+
     /**
      * Launches the Elyra application by invoking the JavaFX Application.launch method
      * with the Main class as the entry point.
+     * With {@value #BATCH_OPTION} followed by a script path, or - for standard input, runs the script without
+     * the GUI instead, and with {@value #CONSOLE_OPTION}, chats in the console without starting JavaFX.
+     * {@value #SERVER_OPTION}, optionally followed by a port, serves commands over HTTP until the process is stopped.
+     * {@value #GREET_OPTION} only loads the tasks and prints the greeting, to measure startup, and
+     * {@value #CDS_TRAINING_OPTION} followed by a script path runs the session the class-data sharing archive is
+     * trained on.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            if (args.length != 2) {
+                System.err.println("Usage: " + BATCH_OPTION + " <script file, or - for standard input>");
+                System.exit(1);
+            }
+            System.exit(BatchRunner.runScript(args[1]));
+        }
+        if (args.length > 0 && args[0].equals(CONSOLE_OPTION)) {
+            System.exit(ConsoleRunner.runConsole());
+        }
+        if (args.length > 0 && args[0].equals(SERVER_OPTION)) {
+            if (args.length > 2) {
+                System.err.println("Usage: " + SERVER_OPTION + " [port, " + CommandServer.DEFAULT_PORT
+                        + " by default]");
+                System.exit(1);
+            }
+            // Without it, every answer would wait up to 40 ms for a delayed acknowledgement; see CommandServer.
+            if (System.getProperty(CommandServer.NO_DELAY_PROPERTY) == null) {
+                System.setProperty(CommandServer.NO_DELAY_PROPERTY, "true");
+            }
+            int status = CommandServer.runServer(args.length == 2 ? args[1]
+                    : String.valueOf(CommandServer.DEFAULT_PORT));
+            if (status != 0) {
+                System.exit(status);
+            }
+            return; // The server keeps the process running.
+        }
+        if (args.length > 0 && args[0].equals(GREET_OPTION)) {
+            System.exit(StartupProfile.greet());
+        }
+        if (args.length > 0 && args[0].equals(CDS_TRAINING_OPTION)) {
+            if (args.length != 2) {
+                System.err.println("Usage: " + CDS_TRAINING_OPTION + " <script file>");
+                System.exit(1);
+            }
+            System.exit(StartupProfile.train(args[1]));
+        }
         Application.launch(Main.class, args);
     }
 }
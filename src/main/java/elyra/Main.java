@@ -1,6 +1,7 @@
 package elyra;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 
 import elyra.ui.MainWindow;
 import javafx.application.Application;
@@ -11,10 +12,11 @@ import javafx.stage.Stage;
 
 /**
  * A GUI for Elyra using FXML.
+ * The window is shown before any task is loaded; tasks load in the background, and the time from launch to the
+ * first frame and to the loaded tasks is reported on standard error.
  */
 public class Main extends Application {
-
-    private Elyra elyra = new Elyra();
+    private MainWindow mainWindow;
 
     @Override
     public void start(Stage stage) {
@@ -30,12 +32,47 @@ public class Main extends Application {
             stage.setMinHeight(stageMinHeight);
             int stageMinWidth = 417;
             stage.setMinWidth(stageMinWidth);
-            fxmlLoader.<MainWindow>getController().setElyra(elyra); // inject the Elyra instance
+            mainWindow = fxmlLoader.getController();
+            mainWindow.loadElyra(Elyra::new, () -> reportStartupTime("Tasks loaded"));
 
             stage.setTitle("Elyra");
+            reportFirstFrame(scene);
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Runs any queued command and saves any change still being written before the application exits, whether
+     * through bye or the window.
+     */
+    @Override
+    public void stop() {
+        if (mainWindow == null) {
+            return; // The window failed to load, so no command was ever run.
+        }
+        try {
+            mainWindow.shutdown();
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+
+    private void reportFirstFrame(Scene scene) {
+        // The first pulse laid out after the stage is shown renders the first frame.
+        Runnable firstFrameListener = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                reportStartupTime("First frame shown");
+            }
+        };
+        scene.addPostLayoutPulseListener(firstFrameListener);
+    }
+
+    private void reportStartupTime(String milestone) {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.err.printf("%s %d ms after launch.%n", milestone, uptimeMillis);
+    }
 }
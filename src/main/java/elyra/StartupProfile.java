@@ -0,0 +1,75 @@
+package elyra;
+
+/**
+ * Runs the headless sessions used to profile and speed up startup.
+ * The greeting session measures time-to-greeting without a display. The training session is what the shadow jar
+ * runs while its class-data sharing archive is dumped, so it touches the classes a normal launch loads: Elyra's own,
+ * through the greeting and a scripted session, and the GUI's, which are loaded without initializing them since no
+ * display is needed for that.
+ */
+class StartupProfile {
+    private static final String[] GUI_CLASSES = {
+        "elyra.Main",
+        "elyra.ui.MainWindow",
+        "elyra.ui.DialogBox",
+        "elyra.ui.DialogHistory",
+        "elyra.ui.TaskListingCell",
+        "javafx.application.Application",
+        "javafx.application.Platform",
+        "javafx.animation.PauseTransition",
+        "javafx.fxml.FXMLLoader",
+        "javafx.scene.Scene",
+        "javafx.stage.Stage",
+        "javafx.scene.layout.AnchorPane",
+        "javafx.scene.layout.HBox",
+        "javafx.scene.layout.VBox",
+        "javafx.scene.control.Button",
+        "javafx.scene.control.Label",
+        "javafx.scene.control.ListView",
+        "javafx.scene.control.ScrollPane",
+        "javafx.scene.control.TextField",
+        "javafx.scene.image.Image",
+        "javafx.scene.image.ImageView",
+    };
+
+    private StartupProfile() {
+    }
+
+    /**
+     * Loads Elyra's tasks from the default data file and prints the greeting, as a launch would show it.
+     *
+     * @return Exit status: always 0.
+     */
+    static int greet() {
+        Elyra elyra = new Elyra();
+        System.out.println(elyra.getGreeting());
+        if (elyra.haveLoadError()) {
+            System.out.println(elyra.getLoadDataErrorMessage());
+        }
+        System.out.flush();
+        return 0;
+    }
+
+    /**
+     * Greets, runs the given script in batch mode, then loads the GUI classes.
+     * Commands of the script are allowed to fail, since only the classes they load matter.
+     *
+     * @param scriptPath Path of the script to run.
+     * @return Exit status: 0 unless a GUI class could not be found.
+     */
+    static int train(String scriptPath) {
+        greet();
+        BatchRunner.runScript(scriptPath);
+        ClassLoader classLoader = StartupProfile.class.getClassLoader();
+        int status = 0;
+        for (String className : GUI_CLASSES) {
+            try {
+                Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                System.err.println("Could not load " + className + " for training.");
+                status = 1;
+            }
+        }
+        return status;
+    }
+}
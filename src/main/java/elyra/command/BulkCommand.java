@@ -0,0 +1,81 @@
+package elyra.command;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import elyra.task.Task;
+
+/**
+ * Represents a command to mark, unmark or delete several tasks at once, e.g. "delete 1,4,9" or "mark 3-500".
+ * All indices are checked before any task is changed, so an invalid index leaves the list untouched.
+ */
+public class BulkCommand implements Command {
+    private final Action action;
+    private final List<IndexRange> ranges;
+
+    /**
+     * Enum representing what a BulkCommand does to each selected task.
+     */
+    public enum Action {
+        MARK,
+        UNMARK,
+        DELETE
+    }
+
+    /**
+     * Creates a new BulkCommand applying the specified action to the tasks in the specified ranges.
+     *
+     * @param action Action to apply to each selected task.
+     * @param ranges Ranges of indices selecting the tasks; overlapping ranges select a task only once.
+     */
+    public BulkCommand(Action action, List<IndexRange> ranges) {
+        assert !ranges.isEmpty() : "BulkCommand needs at least one range";
+        this.action = action;
+        this.ranges = ranges;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public ExecutionResult execute(Context context) {
+        BitSet selectedIndices = new BitSet();
+        for (IndexRange range : this.ranges) {
+            context.tasks().getTask(range.first()); // To check validity of index
+            context.tasks().getTask(range.last()); // To check validity of index
+            selectedIndices.set(range.first(), range.last() + 1);
+        }
+
+        String response = switch (this.action) {
+            case MARK -> {
+                selectedIndices.stream().forEach(index -> context.tasks().markTask(index));
+                yield context.ui().confirmBulkMark(getSelectedTasks(context, selectedIndices));
+            }
+            case UNMARK -> {
+                selectedIndices.stream().forEach(index -> context.tasks().unmarkTask(index));
+                yield context.ui().confirmBulkUnmark(getSelectedTasks(context, selectedIndices));
+            }
+            case DELETE -> {
+                List<Task> affectedTasks = getSelectedTasks(context, selectedIndices);
+                // Deleting from the back keeps the remaining selected indices pointing at the same tasks.
+                for (int index = selectedIndices.length() - 1; index >= 0;
+                        index = selectedIndices.previousSetBit(index - 1)) {
+                    context.tasks().deleteTask(index);
+                }
+                yield context.ui().confirmBulkDeletion(affectedTasks, context.tasks());
+            }
+            default -> throw new AssertionError("Unreachable state: Unknown bulk action is executed.");
+        };
+        return new ExecutionResult(false, true, response);
+    }
+
+    // Marking stores a changed copy of each task, so the selected tasks are only collected once changed.
+    private static List<Task> getSelectedTasks(Context context, BitSet selectedIndices) {
+        List<Task> selectedTasks = new ArrayList<>(selectedIndices.cardinality());
+        for (int index = selectedIndices.nextSetBit(0); index >= 0; index = selectedIndices.nextSetBit(index + 1)) {
+            selectedTasks.add(context.tasks().getTask(index));
+        }
+        return selectedTasks;
+    }
+}
@@ -13,4 +13,11 @@ public class ByeCommand implements Command {
         return new ExecutionResult(true, false, response);
     }
 
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -11,4 +11,14 @@ public interface Command {
      * @return ExecutionResult containing the outcome of the command execution.
      */
     public ExecutionResult execute(Context context);
+
+    /**
+     * Returns whether executing the command may change the task list.
+     * Commands that only read it may run at the same time as each other, but never alongside one that changes it.
+     *
+     * @return True unless the command only reads the task list.
+     */
+    public default boolean isMutating() {
+        return true;
+    }
 }
@@ -0,0 +1,39 @@
+package elyra.command;
+
+import java.util.ArrayList;
+
+import elyra.task.Task;
+
+/**
+ * Represents a command to list the undone deadlines due soonest.
+ */
+public class DueCommand implements Command {
+    private final int count;
+
+    /**
+     * Creates a new DueCommand with the specified number of deadlines to list.
+     *
+     * @param count Maximum number of deadlines to list.
+     */
+    public DueCommand(int count) {
+        this.count = count;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public ExecutionResult execute(Context context) {
+        ArrayList<Task> deadlines = context.tasks().findEarliestDeadlines(this.count);
+        String response = context.ui().showDueDeadlines(deadlines);
+        return new ExecutionResult(false, false, response);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -1,10 +1,66 @@
 package elyra.command;
 
+import java.io.IOException;
+
+import elyra.ui.TaskListing;
+
 /**
  * Represents the result of command execution.
+ * A result with isError set carries an error message instead of a command's response.
+ * A result with a listing carries the listing's header as its response, and the listed rows are formatted as they
+ * are shown or written.
  */
-public record ExecutionResult(boolean isExit, boolean isSave, String response) {
+public record ExecutionResult(boolean isExit, boolean isSave, String response, boolean isError, TaskListing listing) {
     public ExecutionResult {
         assert response != null : "ExecutionResult.response cannot be null";
+        assert listing == null || listing.getHeader().equals(response) : "response should be the listing header";
+    }
+
+    /**
+     * Creates a new ExecutionResult for a command that succeeded or failed without a listing.
+     *
+     * @param isExit Whether the application should exit.
+     * @param isSave Whether the command changed tasks that need to be saved.
+     * @param response Response to show to the user.
+     * @param isError Whether the response is an error message.
+     */
+    public ExecutionResult(boolean isExit, boolean isSave, String response, boolean isError) {
+        this(isExit, isSave, response, isError, null);
+    }
+
+    /**
+     * Creates a new ExecutionResult for a command that succeeded.
+     *
+     * @param isExit Whether the application should exit.
+     * @param isSave Whether the command changed tasks that need to be saved.
+     * @param response Response to show to the user.
+     */
+    public ExecutionResult(boolean isExit, boolean isSave, String response) {
+        this(isExit, isSave, response, false, null);
+    }
+
+    /**
+     * Creates a new ExecutionResult for a command that succeeded with a listing of tasks.
+     *
+     * @param isExit Whether the application should exit.
+     * @param isSave Whether the command changed tasks that need to be saved.
+     * @param listing Listing of tasks to show to the user.
+     */
+    public ExecutionResult(boolean isExit, boolean isSave, TaskListing listing) {
+        this(isExit, isSave, listing.getHeader(), false, listing);
+    }
+
+    /**
+     * Writes the whole response to the given sink, streaming the rows of the listing, if any, one at a time.
+     *
+     * @param out Sink to write to.
+     * @throws IOException If the sink fails to write.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        if (this.listing == null) {
+            out.append(this.response);
+        } else {
+            this.listing.writeTo(out);
+        }
     }
 }
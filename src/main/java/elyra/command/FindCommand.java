@@ -3,20 +3,33 @@ package elyra.command;
 import java.util.ArrayList;
 
 import elyra.task.Task;
+import elyra.ui.Page;
 
 /**
  * Represents a command to find a task with a keyword.
  */
 public class FindCommand implements Command {
     private final String keyword;
+    private final Page page;
 
     /**
-     * Creates a new FindCommand with the specified keyword.
+     * Creates a new FindCommand with the specified keyword, listing every matching task.
      *
      * @param keyword Keyword the description of all returned tasks should contain.
      */
     public FindCommand(String keyword) {
+        this(keyword, Page.ALL);
+    }
+
+    /**
+     * Creates a new FindCommand with the specified keyword, listing a page of the matching tasks.
+     *
+     * @param keyword Keyword the description of all returned tasks should contain.
+     * @param page Page of the matching tasks to list.
+     */
+    public FindCommand(String keyword, Page page) {
         this.keyword = keyword;
+        this.page = page;
     }
 
     /**
@@ -26,7 +39,17 @@ public class FindCommand implements Command {
     public ExecutionResult execute(Context context) {
         ArrayList<Task> matchingTasks = context.tasks()
                 .findTasksByKeyword(this.keyword);
-        String response = context.ui().showMatchingTaskList(matchingTasks, this.keyword);
-        return new ExecutionResult(false, false, response);
+        if (matchingTasks.isEmpty()) {
+            return new ExecutionResult(false, false, context.ui().showMatchingTaskList(matchingTasks, this.keyword));
+        }
+        return new ExecutionResult(false, false, context.ui().listMatchingTasks(matchingTasks, this.page));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 }
@@ -0,0 +1,48 @@
+package elyra.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import elyra.task.Task;
+
+/**
+ * Represents a command to find the events overlapping a time window.
+ */
+public class FindEventsCommand implements Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a new FindEventsCommand with the specified time window.
+     *
+     * @param from Start date and time of the window.
+     * @param to End date and time of the window.
+     */
+    public FindEventsCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public ExecutionResult execute(Context context) {
+        if (!this.from.isBefore(this.to)) {
+            String message = "The 'events' command requires the start time to be before the end time. "
+                    + "Usage: events /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
+            throw new IllegalArgumentException(message);
+        }
+        ArrayList<Task> events = context.tasks().findEventsBetween(this.from, this.to);
+        String response = context.ui().showEventsBetween(events, this.from, this.to);
+        return new ExecutionResult(false, false, response);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
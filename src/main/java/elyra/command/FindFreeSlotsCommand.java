@@ -0,0 +1,48 @@
+package elyra.command;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import elyra.task.TimeSlot;
+
+/**
+ * Represents a command to find the free time slots within a time window.
+ */
+public class FindFreeSlotsCommand implements Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a new FindFreeSlotsCommand with the specified time window.
+     *
+     * @param from Start date and time of the window.
+     * @param to End date and time of the window.
+     */
+    public FindFreeSlotsCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public ExecutionResult execute(Context context) {
+        if (!this.from.isBefore(this.to)) {
+            String message = "The 'free' command requires the start time to be before the end time. "
+                    + "Usage: free /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
+            throw new IllegalArgumentException(message);
+        }
+        List<TimeSlot> freeSlots = context.tasks().findFreeSlots(this.from, this.to);
+        String response = context.ui().showFreeSlots(freeSlots, this.from, this.to);
+        return new ExecutionResult(false, false, response);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package elyra.command;
+
+/**
+ * Represents an inclusive range of task indices, such as the 3-5 in "mark 3-5".
+ *
+ * @param first First index of the range (1-based).
+ * @param last Last index of the range (1-based).
+ */
+public record IndexRange(int first, int last) {
+    /**
+     * Constructs a new IndexRange and validates that it is not empty.
+     */
+    public IndexRange {
+        assert first <= last : "IndexRange must not be empty";
+    }
+}
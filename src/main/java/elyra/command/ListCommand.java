@@ -1,15 +1,49 @@
 package elyra.command;
 
+import java.util.List;
+
+import elyra.task.Task;
+import elyra.ui.Page;
+
 /**
- * Represents a command to list all tasks.
+ * Represents a command to list all tasks, or a page of them.
  */
 public class ListCommand implements Command {
+    private final Page page;
+
+    /**
+     * Creates a new ListCommand listing every task.
+     */
+    public ListCommand() {
+        this(Page.ALL);
+    }
+
+    /**
+     * Creates a new ListCommand listing a page of the tasks.
+     *
+     * @param page Page of the tasks to list.
+     */
+    public ListCommand(Page page) {
+        this.page = page;
+    }
+
     /**
      * @inheritDoc
      */
     @Override
     public ExecutionResult execute(Context context) {
-        String response = context.ui().showUserInputList(context.tasks().getTasks());
-        return new ExecutionResult(false, false, response);
+        List<Task> tasks = context.tasks().getTasks();
+        if (tasks.isEmpty()) {
+            return new ExecutionResult(false, false, context.ui().showUserInputList(tasks));
+        }
+        return new ExecutionResult(false, false, context.ui().listUserTasks(tasks, this.page));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 }
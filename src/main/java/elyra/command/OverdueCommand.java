@@ -0,0 +1,29 @@
+package elyra.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import elyra.task.Task;
+
+/**
+ * Represents a command to list the undone deadlines that have already passed.
+ */
+public class OverdueCommand implements Command {
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public ExecutionResult execute(Context context) {
+        ArrayList<Task> deadlines = context.tasks().findDeadlinesDueBefore(LocalDateTime.now());
+        String response = context.ui().showOverdueDeadlines(deadlines);
+        return new ExecutionResult(false, false, response);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -0,0 +1,342 @@
+package elyra.parser;
+
+import java.util.Arrays;
+
+/**
+ * Represents a line of user input split into whitespace-separated tokens in a single pass.
+ * Only where each token starts and ends is recorded, so no string is created until a command asks for one.
+ * Tokens and the argument after the command word behave exactly as if the input were trimmed, split on runs of
+ * whitespace and joined back with single spaces, which is how commands have always read their input.
+ */
+class CommandLexer {
+    private static final char SPACE = ' ';
+
+    private final String input;
+    private int[] tokenBounds = new int[16];
+    private int tokenCount = 0;
+
+    // The argument is the input itself when its tokens are already separated by single spaces, or a joined copy.
+    private String argumentText;
+    private int argumentStart;
+    private int argumentEnd;
+
+    /**
+     * Splits the given input into tokens.
+     *
+     * @param input User input to split.
+     */
+    CommandLexer(String input) {
+        assert input != null : "CommandLexer created with null input";
+        this.input = input;
+        scanTokens();
+    }
+
+    int getTokenCount() {
+        return this.tokenCount;
+    }
+
+    /**
+     * Returns whether a token equals the given lowercase word, ignoring the case of ASCII letters.
+     *
+     * @param index Index of the token (0-based).
+     * @param word Lowercase word to compare with.
+     * @return True if the token is the word.
+     */
+    boolean isToken(int index, String word) {
+        int start = getTokenStart(index);
+        int length = getTokenEnd(index) - start;
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = this.input.charAt(start + i);
+            char lowerCase = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            if (lowerCase != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a token holds the given character at or after the given offset within it.
+     *
+     * @param index Index of the token (0-based).
+     * @param c Character to look for.
+     * @param fromOffset Offset within the token to start looking from.
+     * @return True if the character was found.
+     */
+    boolean tokenContains(int index, char c, int fromOffset) {
+        int position = this.input.indexOf(c, getTokenStart(index) + fromOffset);
+        return position >= 0 && position < getTokenEnd(index);
+    }
+
+    /**
+     * Parses a token as a decimal integer, without copying it out of the input.
+     *
+     * @param index Index of the token (0-based).
+     * @return Value of the token.
+     * @throws NumberFormatException If the token is not an integer.
+     */
+    int parseTokenInt(int index) {
+        return Integer.parseInt(this.input, getTokenStart(index), getTokenEnd(index), 10);
+    }
+
+    /**
+     * Parses part of a token as a decimal integer, without copying it out of the input.
+     *
+     * @param index Index of the token (0-based).
+     * @param from Offset within the token where the integer starts.
+     * @param to Offset within the token where the integer ends.
+     * @return Value of that part of the token.
+     * @throws NumberFormatException If that part of the token is not an integer.
+     */
+    int parseTokenInt(int index, int from, int to) {
+        int start = getTokenStart(index);
+        return Integer.parseInt(this.input, start + from, start + to, 10);
+    }
+
+    /**
+     * Returns the offset within a token of the first occurrence of a character at or after the given offset.
+     *
+     * @param index Index of the token (0-based).
+     * @param c Character to look for.
+     * @param fromOffset Offset within the token to start looking from.
+     * @return Offset of the character within the token, or -1 if it is not found.
+     */
+    int indexInToken(int index, char c, int fromOffset) {
+        int start = getTokenStart(index);
+        int position = this.input.indexOf(c, start + fromOffset);
+        return position >= 0 && position < getTokenEnd(index) ? position - start : -1;
+    }
+
+    int getTokenLength(int index) {
+        return getTokenEnd(index) - getTokenStart(index);
+    }
+
+    String getToken(int index) {
+        return this.input.substring(getTokenStart(index), getTokenEnd(index));
+    }
+
+    /**
+     * Returns the tokens after the command word, joined by single spaces.
+     */
+    String getArgument() {
+        prepareArgument();
+        return this.argumentText.substring(this.argumentStart, this.argumentEnd);
+    }
+
+    /**
+     * Returns the tokens from one index up to another, joined by single spaces.
+     *
+     * @param from Index of the first token (0-based).
+     * @param to Index after the last token.
+     * @return The joined tokens.
+     */
+    String getTokens(int from, int to) {
+        assert from < to : "getTokens called with an empty range";
+        if (from == 1 && to == this.tokenCount) {
+            return getArgument();
+        }
+        StringBuilder tokens = new StringBuilder(getTokenEnd(to - 1) - getTokenStart(from));
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                tokens.append(SPACE);
+            }
+            tokens.append(this.input, getTokenStart(i), getTokenEnd(i));
+        }
+        return tokens.toString();
+    }
+
+    /**
+     * Splits the argument around every occurrence of any of the given delimiters, the way String.split does with
+     * a pattern matching any of them, and returns where each part starts and ends.
+     * Empty parts at the end are dropped unless asked for, like a split without a limit.
+     *
+     * @param delimiters Delimiters to split around.
+     * @param isSpaceAbsorbed Whether a space right before or after a delimiter belongs to the delimiter.
+     * @param isTrailingEmptyKept Whether empty parts at the end are kept, like a split with a negative limit.
+     * @return Start and end of every part, in pairs, to be read with {@link #getArgumentPart(int[], int)}.
+     */
+    int[] splitArgument(String[] delimiters, boolean isSpaceAbsorbed, boolean isTrailingEmptyKept) {
+        prepareArgument();
+        int[] partBounds = new int[8];
+        int partCount = 0;
+        int partStart = this.argumentStart;
+        int searchFrom = this.argumentStart;
+        while (true) {
+            int delimiterStart = -1;
+            int delimiterLength = 0;
+            for (String delimiter : delimiters) {
+                int position = this.argumentText.indexOf(delimiter, searchFrom);
+                boolean isInArgument = position >= 0 && position + delimiter.length() <= this.argumentEnd;
+                if (isInArgument && (delimiterStart < 0 || position < delimiterStart)) {
+                    delimiterStart = position;
+                    delimiterLength = delimiter.length();
+                }
+            }
+            if (delimiterStart < 0) {
+                break;
+            }
+            int delimiterEnd = delimiterStart + delimiterLength;
+            boolean hasSpaceBefore = delimiterStart > partStart
+                    && this.argumentText.charAt(delimiterStart - 1) == SPACE;
+            boolean hasSpaceAfter = delimiterEnd < this.argumentEnd
+                    && this.argumentText.charAt(delimiterEnd) == SPACE;
+            if (isSpaceAbsorbed && hasSpaceBefore) {
+                delimiterStart -= 1;
+            }
+            if (isSpaceAbsorbed && hasSpaceAfter) {
+                delimiterEnd += 1;
+            }
+            if (partCount * 2 + 2 > partBounds.length) {
+                partBounds = Arrays.copyOf(partBounds, partBounds.length * 2);
+            }
+            partBounds[partCount * 2] = partStart;
+            partBounds[partCount * 2 + 1] = delimiterStart;
+            partCount += 1;
+            partStart = delimiterEnd;
+            searchFrom = delimiterEnd;
+        }
+        if (partCount == 0) {
+            // Like String.split, an argument without any delimiter is returned whole, even if it is empty.
+            return new int[] {this.argumentStart, this.argumentEnd};
+        }
+        if (partCount * 2 + 2 > partBounds.length) {
+            partBounds = Arrays.copyOf(partBounds, partBounds.length + 2);
+        }
+        partBounds[partCount * 2] = partStart;
+        partBounds[partCount * 2 + 1] = this.argumentEnd;
+        partCount += 1;
+        if (!isTrailingEmptyKept) {
+            while (partCount > 0 && partBounds[partCount * 2 - 2] == partBounds[partCount * 2 - 1]) {
+                partCount -= 1;
+            }
+        }
+        return Arrays.copyOf(partBounds, partCount * 2);
+    }
+
+    /**
+     * Returns the number of parts found by {@link #splitArgument(String[], boolean, boolean)}.
+     *
+     * @param partBounds Bounds returned by the split.
+     * @return Number of parts.
+     */
+    static int countParts(int[] partBounds) {
+        return partBounds.length / 2;
+    }
+
+    /**
+     * Returns whether a part of the argument found by {@link #splitArgument(String[], boolean, boolean)} holds only
+     * whitespace, like String.isBlank.
+     *
+     * @param partBounds Bounds returned by the split.
+     * @param partIndex Index of the part (0-based).
+     * @return True if the part is empty or only holds whitespace.
+     */
+    boolean isArgumentPartBlank(int[] partBounds, int partIndex) {
+        for (int i = partBounds[partIndex * 2]; i < partBounds[partIndex * 2 + 1]; i++) {
+            if (!Character.isWhitespace(this.argumentText.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a part of the argument found by {@link #splitArgument(String[], boolean, boolean)}, trimmed.
+     *
+     * @param partBounds Bounds returned by the split.
+     * @param partIndex Index of the part (0-based).
+     * @return The trimmed part.
+     */
+    String getArgumentPart(int[] partBounds, int partIndex) {
+        int start = partBounds[partIndex * 2];
+        int end = partBounds[partIndex * 2 + 1];
+        while (start < end && this.argumentText.charAt(start) <= SPACE) {
+            start += 1;
+        }
+        while (end > start && this.argumentText.charAt(end - 1) <= SPACE) {
+            end -= 1;
+        }
+        return this.argumentText.substring(start, end);
+    }
+
+    private void scanTokens() {
+        // Like String.trim, anything up to a space counts as padding around the whole input.
+        int start = 0;
+        int end = this.input.length();
+        while (start < end && this.input.charAt(start) <= SPACE) {
+            start += 1;
+        }
+        while (end > start && this.input.charAt(end - 1) <= SPACE) {
+            end -= 1;
+        }
+
+        int position = start;
+        while (position < end) {
+            int tokenStart = position;
+            while (position < end && !isWhitespace(this.input.charAt(position))) {
+                position += 1;
+            }
+            addToken(tokenStart, position);
+            while (position < end && isWhitespace(this.input.charAt(position))) {
+                position += 1;
+            }
+        }
+    }
+
+    private void addToken(int start, int end) {
+        if (this.tokenCount * 2 == this.tokenBounds.length) {
+            this.tokenBounds = Arrays.copyOf(this.tokenBounds, this.tokenBounds.length * 2);
+        }
+        this.tokenBounds[this.tokenCount * 2] = start;
+        this.tokenBounds[this.tokenCount * 2 + 1] = end;
+        this.tokenCount += 1;
+    }
+
+    private void prepareArgument() {
+        if (this.argumentText != null) {
+            return;
+        }
+        if (this.tokenCount < 2) {
+            this.argumentText = "";
+            return;
+        }
+        int lastToken = this.tokenCount - 1;
+        boolean isSingleSpaced = true;
+        for (int i = 1; i < lastToken && isSingleSpaced; i++) {
+            isSingleSpaced = getTokenStart(i + 1) - getTokenEnd(i) == 1 && this.input.charAt(getTokenEnd(i)) == SPACE;
+        }
+        if (isSingleSpaced) {
+            this.argumentText = this.input;
+            this.argumentStart = getTokenStart(1);
+            this.argumentEnd = getTokenEnd(lastToken);
+            return;
+        }
+        StringBuilder argument = new StringBuilder(getTokenEnd(lastToken) - getTokenStart(1));
+        for (int i = 1; i <= lastToken; i++) {
+            if (i > 1) {
+                argument.append(SPACE);
+            }
+            argument.append(this.input, getTokenStart(i), getTokenEnd(i));
+        }
+        this.argumentText = argument.toString();
+        this.argumentEnd = this.argumentText.length();
+    }
+
+    private int getTokenStart(int index) {
+        assert index >= 0 && index < this.tokenCount : "Token " + index + " is out of range";
+        return this.tokenBounds[index * 2];
+    }
+
+    private int getTokenEnd(int index) {
+        assert index >= 0 && index < this.tokenCount : "Token " + index + " is out of range";
+        return this.tokenBounds[index * 2 + 1];
+    }
+
+    private static boolean isWhitespace(char c) {
+        // The characters matched by \s in a regular expression.
+        return c == SPACE || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
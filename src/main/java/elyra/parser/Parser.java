@@ -1,29 +1,46 @@
 package elyra.parser;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 import elyra.command.AddDeadlineCommand;
 import elyra.command.AddEventCommand;
 import elyra.command.AddTodoCommand;
+import elyra.command.BulkCommand;
 import elyra.command.ByeCommand;
 import elyra.command.Command;
 import elyra.command.DeleteCommand;
+import elyra.command.DueCommand;
 import elyra.command.FindCommand;
+import elyra.command.FindEventsCommand;
+import elyra.command.FindFreeSlotsCommand;
+import elyra.command.IndexRange;
 import elyra.command.ListCommand;
 import elyra.command.MarkCommand;
+import elyra.command.OverdueCommand;
 import elyra.command.UnmarkCommand;
 import elyra.command.UpdateCommand;
 import elyra.storage.Storage;
+import elyra.task.DateTimeCodec;
+import elyra.ui.Page;
 
 /**
  * Represents a parser for user input commands.
  * A Parser object converts user input strings into executable Command objects.
+ * Input is scanned once by a CommandLexer, and arguments are sliced out of it by index, so parsing a command
+ * creates little more than the strings the command keeps.
  */
 public class Parser {
+    private static final String[] COMMAND_WORDS = {"bye", "list", "mark", "unmark", "todo", "deadline", "event",
+        "delete", "find", "update", "events", "free", "due", "overdue"};
+    private static final String[] DEADLINE_DELIMITERS = {"/by"};
+    private static final String[] TIME_WINDOW_DELIMITERS = {"/from", "/to"};
+    private static final String[] UPDATE_DELIMITERS = {"/field", "/with"};
+    private static final String PAGE_OPTION = "--page";
+    private static final String LIMIT_OPTION = "--limit";
+
     /**
      * Parses user input into a Command object.
      *
@@ -32,58 +49,74 @@ public class Parser {
      * @throws IllegalArgumentException If the command is unknown, invalid, or has incorrect arguments.
      */
     public Command parseCommand(String userInput) {
-        if (userInput == null || userInput.trim().isEmpty()) {
+        CommandLexer lexer = userInput == null ? null : new CommandLexer(userInput);
+        if (lexer == null || lexer.getTokenCount() == 0) {
             String message = "Please enter a command. Try: list";
             throw new IllegalArgumentException(message);
         }
         invalidateDelimiter(userInput);
 
-        String[] inputTokens = userInput.trim().split("\\s+");
-        String commandWord = inputTokens[0].toLowerCase();
-
-        return switch (commandWord) {
-            case "bye" -> parseByeCommand(inputTokens);
-            case "list" -> parseListCommand(inputTokens);
-            case "mark" -> parseMarkCommand(inputTokens);
-            case "unmark" -> parseUnmarkCommand(inputTokens);
-            case "todo" -> parseTodoCommand(inputTokens);
-            case "deadline" -> parseDeadlineCommand(inputTokens);
-            case "event" -> parseEventCommand(inputTokens);
-            case "delete" -> parseDeleteCommand(inputTokens);
-            case "find" -> parseFindCommand(inputTokens);
-            case "update" -> parseUpdateCommand(inputTokens);
+        return switch (findCommandWord(lexer)) {
+            case "bye" -> parseByeCommand(lexer);
+            case "list" -> parseListCommand(lexer);
+            case "mark" -> parseMarkCommand(lexer);
+            case "unmark" -> parseUnmarkCommand(lexer);
+            case "todo" -> parseTodoCommand(lexer);
+            case "deadline" -> parseDeadlineCommand(lexer);
+            case "event" -> parseEventCommand(lexer);
+            case "delete" -> parseDeleteCommand(lexer);
+            case "find" -> parseFindCommand(lexer);
+            case "update" -> parseUpdateCommand(lexer);
+            case "events" -> parseEventsCommand(lexer);
+            case "free" -> parseFreeCommand(lexer);
+            case "due" -> parseDueCommand(lexer);
+            case "overdue" -> parseOverdueCommand(lexer);
             default -> {
                 String message = "I don't recognize that command. Try: list, todo, deadline, event, "
-                        + "mark, unmark, delete, find, update, bye.";
+                        + "mark, unmark, delete, find, update, events, free, due, overdue, bye.";
                 throw new IllegalArgumentException(message);
             }
         };
 
     }
 
-    private Command parseByeCommand(String[] inputTokens) {
-        if (inputTokens.length > 1) {
+    private String findCommandWord(CommandLexer lexer) {
+        for (String commandWord : COMMAND_WORDS) {
+            if (lexer.isToken(0, commandWord)) {
+                return commandWord;
+            }
+        }
+        return "";
+    }
+
+    private Command parseByeCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() > 1) {
             String message = "The 'bye' command does not take any arguments. Usage: bye";
             throw new IllegalArgumentException(message);
         }
         return new ByeCommand();
     }
 
-    private Command parseListCommand(String[] inputTokens) {
-        if (inputTokens.length > 1) {
-            String message = "The 'list' command does not take any arguments. Usage: list";
+    private Command parseListCommand(CommandLexer lexer) {
+        String usage = "Usage: list [--page <number>] [--limit <count>]";
+        int optionStart = findPageOptionStart(lexer);
+        if (optionStart > 1) {
+            String message = "The 'list' command only takes paging options. " + usage;
             throw new IllegalArgumentException(message);
         }
-        return new ListCommand();
+        return new ListCommand(parsePage(lexer, optionStart, usage));
     }
 
-    private Command parseMarkCommand(String[] inputTokens) {
-        if (inputTokens.length != 2) {
+    private Command parseMarkCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() != 2) {
             String message = "The 'mark' command requires exactly one argument. Usage: mark <index>";
             throw new IllegalArgumentException(message);
         }
+        if (isIndexList(lexer)) {
+            return new BulkCommand(BulkCommand.Action.MARK, parseIndexRanges(lexer, "mark"));
+        }
         try {
-            int index = Integer.parseInt(inputTokens[1]);
+            int index = lexer.parseTokenInt(1);
             return new MarkCommand(index);
         } catch (NumberFormatException e) {
             String message = "Index must be a number. Example: mark 2";
@@ -91,13 +124,16 @@ public class Parser {
         }
     }
 
-    private Command parseUnmarkCommand(String[] inputTokens) {
-        if (inputTokens.length != 2) {
+    private Command parseUnmarkCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() != 2) {
             String message = "The 'unmark' command requires exactly one argument. Usage: unmark <index>";
             throw new IllegalArgumentException(message);
         }
+        if (isIndexList(lexer)) {
+            return new BulkCommand(BulkCommand.Action.UNMARK, parseIndexRanges(lexer, "unmark"));
+        }
         try {
-            int index = Integer.parseInt(inputTokens[1]);
+            int index = lexer.parseTokenInt(1);
             return new UnmarkCommand(index);
         } catch (NumberFormatException e) {
             String message = "Index must be a number. Example: unmark 2";
@@ -105,25 +141,67 @@ public class Parser {
         }
     }
 
-    private Command parseTodoCommand(String[] inputTokens) {
-        if (inputTokens.length < 2) {
+    private boolean isIndexList(CommandLexer lexer) {
+        // A leading '-' is a negative index, not a range.
+        return lexer.tokenContains(1, ',', 0) || lexer.tokenContains(1, '-', 1);
+    }
+
+    private List<IndexRange> parseIndexRanges(CommandLexer lexer, String commandWord) {
+        List<IndexRange> ranges = new ArrayList<>();
+        int argumentLength = lexer.getTokenLength(1);
+        int partStart = 0;
+        while (partStart <= argumentLength) {
+            int partEnd = lexer.indexInToken(1, ',', partStart);
+            if (partEnd < 0) {
+                partEnd = argumentLength;
+            }
+            int dashPosition = lexer.indexInToken(1, '-', partStart + 1);
+            if (dashPosition >= partEnd) {
+                dashPosition = -1;
+            }
+            try {
+                if (dashPosition < 0) {
+                    int index = lexer.parseTokenInt(1, partStart, partEnd);
+                    ranges.add(new IndexRange(index, index));
+                } else {
+                    int first = lexer.parseTokenInt(1, partStart, dashPosition);
+                    int last = lexer.parseTokenInt(1, dashPosition + 1, partEnd);
+                    if (first > last) {
+                        String part = lexer.getToken(1).substring(partStart, partEnd);
+                        String message = "Range " + part + " is backwards. Write the smaller index first. Example: "
+                                + commandWord + " " + last + "-" + first;
+                        throw new IllegalArgumentException(message);
+                    }
+                    ranges.add(new IndexRange(first, last));
+                }
+            } catch (NumberFormatException e) {
+                String message = "Indices must be numbers or ranges. Example: " + commandWord + " 1,4,9 or "
+                        + commandWord + " 3-5";
+                throw new IllegalArgumentException(message);
+            }
+            partStart = partEnd + 1;
+        }
+        return ranges;
+    }
+
+    private Command parseTodoCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() < 2) {
             String message = "The 'todo' command needs a description. Usage: todo <description>";
             throw new IllegalArgumentException(message);
         }
-        String description = String.join(" ", Arrays.copyOfRange(inputTokens, 1, inputTokens.length));
+        String description = lexer.getArgument();
         return new AddTodoCommand(description);
     }
 
-    private Command parseDeadlineCommand(String[] inputTokens) {
-        String argument = String.join(" ", Arrays.copyOfRange(inputTokens, 1, inputTokens.length));
-        String[] parts = argument.split("/by");
-        if (parts.length != 2) {
+    private Command parseDeadlineCommand(CommandLexer lexer) {
+        int[] parts = lexer.splitArgument(DEADLINE_DELIMITERS, false, false);
+        if (CommandLexer.countParts(parts) != 2) {
             String message = "The 'deadline' command requires a description and a due date. "
                     + "Usage: deadline <description> /by yyyy-MM-dd HH:mm";
             throw new IllegalArgumentException(message);
         }
-        String description = parts[0].trim();
-        LocalDateTime by = parseDateTime(parts[1].trim());
+        String description = lexer.getArgumentPart(parts, 0);
+        LocalDateTime by = parseDateTime(lexer.getArgumentPart(parts, 1));
         if (description.isEmpty()) {
             String message = "The 'deadline' description cannot be empty. Usage: "
                     + "deadline <description> /by yyyy-MM-dd HH:mm";
@@ -132,19 +210,17 @@ public class Parser {
         return new AddDeadlineCommand(description, by);
     }
 
-    private Command parseEventCommand(String[] inputTokens) {
-        String argument = String.join(" ", Arrays.copyOfRange(inputTokens, 1, inputTokens.length));
-        // Delimiter pattern for splitting an event command into 3 parts: description, /from datetime, /to datetime.
-        String eventDelimiterPattern = "\\s*/from\\s*|\\s*/to\\s*";
-        String[] parts = argument.split(eventDelimiterPattern);
-        if (parts.length != 3) {
+    private Command parseEventCommand(CommandLexer lexer) {
+        // An event command has 3 parts: description, /from datetime, /to datetime.
+        int[] parts = lexer.splitArgument(TIME_WINDOW_DELIMITERS, true, false);
+        if (CommandLexer.countParts(parts) != 3) {
             String message = "The 'event' command requires a description, start time, and end time. "
                     + "Usage: event <description> /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
             throw new IllegalArgumentException(message);
         }
-        String description = parts[0].trim();
-        LocalDateTime from = parseDateTime(parts[1].trim());
-        LocalDateTime to = parseDateTime(parts[2].trim());
+        String description = lexer.getArgumentPart(parts, 0);
+        LocalDateTime from = parseDateTime(lexer.getArgumentPart(parts, 1));
+        LocalDateTime to = parseDateTime(lexer.getArgumentPart(parts, 2));
         if (description.isEmpty()) {
             String message = "The 'event' description cannot be empty. Usage: "
                     + "event <description> /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
@@ -153,13 +229,16 @@ public class Parser {
         return new AddEventCommand(description, from, to);
     }
 
-    private Command parseDeleteCommand(String[] inputTokens) {
-        if (inputTokens.length != 2) {
+    private Command parseDeleteCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() != 2) {
             String message = "The 'delete' command requires exactly one argument. Usage: delete <index>";
             throw new IllegalArgumentException(message);
         }
+        if (isIndexList(lexer)) {
+            return new BulkCommand(BulkCommand.Action.DELETE, parseIndexRanges(lexer, "delete"));
+        }
         try {
-            int index = Integer.parseInt(inputTokens[1]);
+            int index = lexer.parseTokenInt(1);
             return new DeleteCommand(index);
         } catch (NumberFormatException e) {
             String message = "Index must be a number. Example: delete 3";
@@ -167,39 +246,39 @@ public class Parser {
         }
     }
 
-    private Command parseFindCommand(String[] inputTokens) {
-        if (inputTokens.length < 2) {
-            String message = "The 'find' command needs a keyword. Usage: find <keyword>";
+    private Command parseFindCommand(CommandLexer lexer) {
+        String usage = "Usage: find <keyword> [--page <number>] [--limit <count>]";
+        int optionStart = findPageOptionStart(lexer);
+        if (optionStart < 2) {
+            String message = "The 'find' command needs a keyword. " + usage;
             throw new IllegalArgumentException(message);
         }
-        String keyword = String.join(" ", Arrays.copyOfRange(inputTokens, 1, inputTokens.length));
-        return new FindCommand(keyword);
+        String keyword = lexer.getTokens(1, optionStart);
+        return new FindCommand(keyword, parsePage(lexer, optionStart, usage));
     }
 
-    private Command parseUpdateCommand(String[] inputTokens) {
-        String argument = String.join(" ", Arrays.copyOfRange(inputTokens, 1, inputTokens.length));
-        // Delimiter pattern for splitting an update command into 3 parts: index, /field fieldName, /with newContent.
-        String updateDelimiterPattern = "\\s*/field\\s*|\\s*/with\\s*";
-        String[] parts = argument.split(updateDelimiterPattern, -1);
-        if (parts.length != 3) {
+    private Command parseUpdateCommand(CommandLexer lexer) {
+        // An update command has 3 parts: index, /field fieldName, /with newContent.
+        int[] parts = lexer.splitArgument(UPDATE_DELIMITERS, true, true);
+        if (CommandLexer.countParts(parts) != 3) {
             String message = "The 'update' command requires a task index, field, and new value. "
                     + "Usage: update <index> /field <field> /with <value>";
             throw new IllegalArgumentException(message);
         }
         try {
-            String indexText = parts[0].trim();
+            String indexText = lexer.getArgumentPart(parts, 0);
             if (indexText.isEmpty()) {
                 String message = "The 'update' command requires a task index. "
                         + "Usage: update <index> /field <field> /with <value>";
                 throw new IllegalArgumentException(message);
             }
-            String fieldName = parts[1].trim();
+            String fieldName = lexer.getArgumentPart(parts, 1);
             if (fieldName.isEmpty()) {
                 String message = "The 'update' command requires a field name. "
                         + "Usage: update <index> /field <field> /with <value>";
                 throw new IllegalArgumentException(message);
             }
-            String newContent = parts[2].trim();
+            String newContent = lexer.getArgumentPart(parts, 2);
             if (newContent.isEmpty()) {
                 String message = "The 'update' command requires a new value. "
                         + "Usage: update <index> /field <field> /with <value>";
@@ -221,11 +300,105 @@ public class Parser {
         }
     }
 
+    private Command parseEventsCommand(CommandLexer lexer) {
+        String usage = "Usage: events /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
+        LocalDateTime[] window = parseTimeWindow(lexer, "events", usage);
+        return new FindEventsCommand(window[0], window[1]);
+    }
+
+    private Command parseFreeCommand(CommandLexer lexer) {
+        String usage = "Usage: free /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm";
+        LocalDateTime[] window = parseTimeWindow(lexer, "free", usage);
+        return new FindFreeSlotsCommand(window[0], window[1]);
+    }
+
+    private Command parseDueCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() != 2) {
+            String message = "The 'due' command requires exactly one argument. Usage: due <count>";
+            throw new IllegalArgumentException(message);
+        }
+        int count;
+        try {
+            count = lexer.parseTokenInt(1);
+        } catch (NumberFormatException e) {
+            String message = "Count must be a number. Example: due 5";
+            throw new IllegalArgumentException(message);
+        }
+        if (count <= 0) {
+            String message = "Count must be at least 1. Example: due 5";
+            throw new IllegalArgumentException(message);
+        }
+        return new DueCommand(count);
+    }
+
+    private Command parseOverdueCommand(CommandLexer lexer) {
+        if (lexer.getTokenCount() > 1) {
+            String message = "The 'overdue' command does not take any arguments. Usage: overdue";
+            throw new IllegalArgumentException(message);
+        }
+        return new OverdueCommand();
+    }
+
+    private int findPageOptionStart(CommandLexer lexer) {
+        // Paging options come last, each followed by its value; anything before them is the argument.
+        int optionStart = lexer.getTokenCount();
+        while (optionStart >= 3 && isPageOption(lexer, optionStart - 2)) {
+            optionStart -= 2;
+        }
+        return optionStart;
+    }
+
+    private boolean isPageOption(CommandLexer lexer, int index) {
+        return lexer.isToken(index, PAGE_OPTION) || lexer.isToken(index, LIMIT_OPTION);
+    }
+
+    private Page parsePage(CommandLexer lexer, int optionStart, String usage) {
+        if (optionStart == lexer.getTokenCount()) {
+            return Page.ALL;
+        }
+        int number = -1;
+        int size = -1;
+        for (int index = optionStart; index < lexer.getTokenCount(); index += 2) {
+            boolean isPage = lexer.isToken(index, PAGE_OPTION);
+            if (isPage ? number >= 0 : size >= 0) {
+                String message = "The " + lexer.getToken(index) + " option can only be given once. " + usage;
+                throw new IllegalArgumentException(message);
+            }
+            int value;
+            try {
+                value = lexer.parseTokenInt(index + 1);
+            } catch (NumberFormatException e) {
+                String message = "Paging options take a number. Example: list --page 2 --limit 50";
+                throw new IllegalArgumentException(message);
+            }
+            if (value <= 0) {
+                String message = "Paging options must be at least 1. Example: list --page 2 --limit 50";
+                throw new IllegalArgumentException(message);
+            }
+            if (isPage) {
+                number = value;
+            } else {
+                size = value;
+            }
+        }
+        return new Page(number >= 0 ? number : 1, size >= 0 ? size : Page.DEFAULT_SIZE);
+    }
+
+    private LocalDateTime[] parseTimeWindow(CommandLexer lexer, String commandWord, String usage) {
+        // A time window has 3 parts: nothing, /from datetime, /to datetime.
+        int[] parts = lexer.splitArgument(TIME_WINDOW_DELIMITERS, true, false);
+        if (CommandLexer.countParts(parts) != 3 || !lexer.isArgumentPartBlank(parts, 0)) {
+            String message = "The '" + commandWord + "' command requires a start time and an end time. " + usage;
+            throw new IllegalArgumentException(message);
+        }
+        LocalDateTime from = parseDateTime(lexer.getArgumentPart(parts, 1));
+        LocalDateTime to = parseDateTime(lexer.getArgumentPart(parts, 2));
+        return new LocalDateTime[] {from, to};
+    }
+
     private LocalDateTime parseDateTime(String dateTimeStr) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
-            .withResolverStyle(ResolverStyle.STRICT);
         try {
-            return LocalDateTime.parse(dateTimeStr, formatter);
+            return DateTimeCodec.parseInput(dateTimeStr);
         } catch (DateTimeParseException e) {
             String message = "Invalid date/time format. Use yyyy-MM-dd HH:mm (e.g. 2024-02-01 12:30).";
             throw new IllegalArgumentException(message);
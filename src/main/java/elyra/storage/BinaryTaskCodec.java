@@ -0,0 +1,395 @@
+package elyra.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import elyra.task.Deadline;
+import elyra.task.Event;
+import elyra.task.Task;
+import elyra.task.TaskType;
+import elyra.task.ToDo;
+
+/**
+ * Encodes and decodes snapshot files in Elyra's compact binary format.
+ * A file starts with a magic number, a version byte and the number of tasks. Each task is then stored as its type
+ * code byte, a flags byte holding the done bit, the length-prefixed UTF-8 description and, for deadlines and events,
+ * their date-times as epoch seconds in UTC. Sub-second precision is not kept.
+ * Since version 2, each record is framed by its length and followed by its CRC32C checksum, so a corrupted record
+ * is detected and can be skipped without losing track of the records after it. Version 1 files are still read.
+ * Files are first indexed by following the record lengths alone, so that loading does not read the records
+ * themselves; a record's checksum and fields are only validated when it is decoded, one at a time.
+ */
+class BinaryTaskCodec {
+    static final byte[] MAGIC = {'E', 'L', 'Y', 'B'};
+    static final byte VERSION = 2;
+    private static final byte UNFRAMED_VERSION = 1;
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Integer.BYTES;
+    private static final int MIN_RECORD_SIZE = 2 + Integer.BYTES + 1;
+    private static final int REJECTED_OFFSET = -1;
+    private static final byte DONE_FLAG = 1;
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * Returns whether the file starts with the binary format's magic number.
+     *
+     * @param filePath Path of the file to check.
+     * @return True if the file is in the binary format.
+     * @throws IOException If the file cannot be read.
+     */
+    boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream input = Files.newInputStream(filePath)) {
+            byte[] prefix = input.readNBytes(MAGIC.length);
+            return Arrays.equals(prefix, MAGIC);
+        }
+    }
+
+    /**
+     * Writes the given tasks to a file in the binary format, replacing its previous content.
+     *
+     * @param filePath Path of the file to write.
+     * @param tasks Tasks to write, in order.
+     * @throws IOException If an error occurs while writing to the file.
+     */
+    void write(Path filePath, List<Task> tasks) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            output.write(MAGIC);
+            output.writeByte(VERSION);
+            output.writeInt(tasks.size());
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            CRC32C checksum = new CRC32C();
+            for (Task task : tasks) {
+                recordBytes.reset();
+                writeTask(record, task);
+                checksum.reset();
+                checksum.update(recordBytes.toByteArray());
+                output.writeInt(recordBytes.size());
+                recordBytes.writeTo(output);
+                output.writeInt((int) checksum.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads all tasks from a file in the binary format.
+     *
+     * @param filePath Path of the file to read.
+     * @return Tasks in the file, in order.
+     * @throws IOException If an error occurs while reading the file or data is corrupted.
+     */
+    ArrayList<Task> read(Path filePath) throws IOException {
+        return read(filePath, Quarantine.strict());
+    }
+
+    /**
+     * Reads all tasks from a file in the binary format, handing corrupted records to the given quarantine.
+     *
+     * @param filePath Path of the file to read.
+     * @param quarantine Quarantine deciding what happens to corrupted records.
+     * @return Tasks in the file, with placeholders for corrupted ones, in order.
+     * @throws IOException If an error occurs while reading the file or the quarantine rejects a corrupted record.
+     */
+    ArrayList<Task> read(Path filePath, Quarantine quarantine) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int[] recordOffsets = indexRecords(buffer, quarantine);
+
+        ArrayList<Task> tasks = new ArrayList<>(recordOffsets.length);
+        for (int i = 0; i < recordOffsets.length; i++) {
+            if (recordOffsets[i] == REJECTED_OFFSET) {
+                tasks.add(quarantine.createPlaceholder());
+                continue;
+            }
+            try {
+                validateRecord(buffer, recordOffsets[i], i + 1);
+                tasks.add(decodeRecord(buffer, recordOffsets[i]));
+            } catch (IOException e) {
+                quarantine.reject(e, getRecordHex(buffer, recordOffsets[i]));
+                tasks.add(quarantine.createPlaceholder());
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Maps a file in the binary format into memory, without decoding any task.
+     * Windows does not allow replacing a file that is mapped, so there the file is read into the heap instead.
+     *
+     * @param filePath Path of the file to map.
+     * @return Read-only buffer over the whole file.
+     * @throws IOException If the file cannot be mapped or is too large to be mapped at once.
+     */
+    ByteBuffer map(Path filePath) throws IOException {
+        boolean isWindows = File.separatorChar == '\\';
+        if (isWindows) {
+            return ByteBuffer.wrap(Files.readAllBytes(filePath)).asReadOnlyBuffer();
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file is too large to be mapped into memory.");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Finds where each record of a binary file starts, following the record lengths alone.
+     * Records of version 1 files have no length, so their fields are validated to find where each ends.
+     *
+     * @param buffer Buffer over the whole file.
+     * @return Offsets of the records, in order.
+     * @throws IOException If data is corrupted.
+     */
+    int[] indexRecords(ByteBuffer buffer) throws IOException {
+        return indexRecords(buffer, Quarantine.strict());
+    }
+
+    /**
+     * Finds where each record of a binary file starts, following the record lengths alone.
+     * A record with a corrupted length cannot be told apart from the records after it, so the rest of the file is
+     * rejected with it. Records whose length is intact are only validated by {@link #validateRecord}.
+     *
+     * @param buffer Buffer over the whole file.
+     * @param quarantine Quarantine deciding what happens to corrupted records.
+     * @return Offsets of the records, in order, with -1 for rejected ones.
+     * @throws IOException If the quarantine rejects a corrupted record.
+     */
+    int[] indexRecords(ByteBuffer buffer, Quarantine quarantine) throws IOException {
+        ByteBuffer scanner = buffer.duplicate();
+        scanner.position(0);
+        byte version;
+        int taskCount;
+        try {
+            version = readVersion(scanner);
+            taskCount = readTaskCount(scanner);
+        } catch (IOException e) {
+            quarantine.reject(e, toHex(buffer, 0, buffer.limit()));
+            return new int[0];
+        }
+
+        int[] recordOffsets = new int[taskCount];
+        for (int recordNumber = 1; recordNumber <= taskCount; recordNumber++) {
+            int recordStart = scanner.position();
+            int recordOffset;
+            try {
+                recordOffset = version == UNFRAMED_VERSION
+                        ? skipRecord(scanner, recordNumber)
+                        : skipFramedRecord(scanner, recordNumber);
+            } catch (IOException e) {
+                quarantine.reject(e, toHex(buffer, recordStart, buffer.limit()));
+                Arrays.fill(recordOffsets, recordNumber - 1, taskCount, REJECTED_OFFSET);
+                return recordOffsets;
+            }
+            recordOffsets[recordNumber - 1] = recordOffset;
+        }
+        if (scanner.hasRemaining()) {
+            quarantine.reject(new IOException("Data file is corrupted: unexpected data after the last task."),
+                    toHex(buffer, scanner.position(), buffer.limit()));
+        }
+        return recordOffsets;
+    }
+
+    /**
+     * Validates the checksum and fields of the record starting at the given offset.
+     * Records of version 1 files were validated when the file was indexed, and have no checksum.
+     *
+     * @param buffer Buffer over the whole file, already indexed by {@link #indexRecords(ByteBuffer)}.
+     * @param recordOffset Offset of the record to validate.
+     * @param recordNumber Position of the record in the file (1-based), to report it by.
+     * @throws IOException If the record is corrupted.
+     */
+    void validateRecord(ByteBuffer buffer, int recordOffset, int recordNumber) throws IOException {
+        if (buffer.get(MAGIC.length) == UNFRAMED_VERSION) {
+            return;
+        }
+        int checksumOffset = recordOffset + buffer.getInt(recordOffset - Integer.BYTES);
+        ByteBuffer record = buffer.duplicate();
+        record.limit(checksumOffset).position(recordOffset);
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.duplicate());
+        if (buffer.getInt(checksumOffset) != (int) checksum.getValue()) {
+            throw corrupted(recordNumber, "checksum mismatch");
+        }
+
+        skipRecord(record, recordNumber);
+        if (record.hasRemaining()) {
+            throw corrupted(recordNumber, "record length does not match its fields");
+        }
+    }
+
+    /**
+     * Returns the raw content of a version 2 record, with its framing, as hexadecimal text.
+     *
+     * @param buffer Buffer over the whole file, already indexed by {@link #indexRecords(ByteBuffer)}.
+     * @param recordOffset Offset of the record.
+     * @return The record as hexadecimal text.
+     */
+    String getRecordHex(ByteBuffer buffer, int recordOffset) {
+        int frameStart = recordOffset - Integer.BYTES;
+        return toHex(buffer, frameStart, recordOffset + buffer.getInt(frameStart) + Integer.BYTES);
+    }
+
+    /**
+     * Decodes the record starting at the given offset, without moving the buffer's position.
+     *
+     * @param buffer Buffer over the whole file, already indexed by {@link #indexRecords(ByteBuffer)}.
+     * @param recordOffset Offset of the record to decode, already validated by {@link #validateRecord}.
+     * @return The decoded task.
+     */
+    Task decodeRecord(ByteBuffer buffer, int recordOffset) {
+        int position = recordOffset;
+        TaskType taskType = TaskType.fromStorageCode(String.valueOf((char) buffer.get(position)));
+        boolean isDone = buffer.get(position + 1) == DONE_FLAG;
+        int length = buffer.getInt(position + 2);
+        byte[] descriptionBytes = new byte[length];
+        buffer.get(position + 2 + Integer.BYTES, descriptionBytes);
+        String description = new String(descriptionBytes, StandardCharsets.UTF_8);
+
+        position += 2 + Integer.BYTES + length;
+        return switch (taskType) {
+            case TODO -> new ToDo(description, isDone);
+            case DEADLINE -> new Deadline(description, isDone, toDateTime(buffer.getLong(position)));
+            case EVENT -> new Event(description, isDone, toDateTime(buffer.getLong(position)),
+                    toDateTime(buffer.getLong(position + Long.BYTES)));
+            default -> throw new AssertionError("Unreachable state: Unknown task type is read.");
+        };
+    }
+
+    private void writeTask(DataOutputStream output, Task task) throws IOException {
+        TaskType taskType = task.getType();
+        output.writeByte(taskType.getStorageCode().charAt(0));
+        output.writeByte(task.isDone() ? DONE_FLAG : 0);
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        output.writeInt(description.length);
+        output.write(description);
+        switch (taskType) {
+            case TODO -> { }
+            case DEADLINE -> output.writeLong(toEpochSecond(((Deadline) task).getBy()));
+            case EVENT -> {
+                output.writeLong(toEpochSecond(((Event) task).getStartAt()));
+                output.writeLong(toEpochSecond(((Event) task).getEndAt()));
+            }
+            default -> throw new AssertionError("Unreachable state: Unknown task type is written.");
+        }
+    }
+
+    private byte readVersion(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new IOException("Data file is corrupted: the binary header is incomplete.");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        assert Arrays.equals(magic, MAGIC) : "read called on a file without the binary magic number";
+        byte version = buffer.get();
+        if (version != VERSION && version != UNFRAMED_VERSION) {
+            throw new IOException(String.format("Data file has unsupported binary format version %d.", version));
+        }
+        return version;
+    }
+
+    private int readTaskCount(ByteBuffer buffer) throws IOException {
+        int taskCount = buffer.getInt();
+        if (taskCount < 0) {
+            throw new IOException("Data file is corrupted: negative task count in the binary header.");
+        }
+        if (taskCount > buffer.remaining() / MIN_RECORD_SIZE) {
+            throw new IOException(String.format(
+                    "Data file is corrupted: task count %d in the binary header does not fit in the file.", taskCount));
+        }
+        return taskCount;
+    }
+
+    private int skipFramedRecord(ByteBuffer buffer, int recordNumber) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            throw corrupted(recordNumber, "unexpected end of file");
+        }
+        int length = buffer.getInt();
+        if (length < MIN_RECORD_SIZE || length > buffer.remaining() - Integer.BYTES) {
+            throw corrupted(recordNumber, String.format("invalid record length %d", length));
+        }
+        int recordOffset = buffer.position();
+        buffer.position(recordOffset + length + Integer.BYTES);
+        return recordOffset;
+    }
+
+    private int skipRecord(ByteBuffer buffer, int recordNumber) throws IOException {
+        int recordOffset = buffer.position();
+        try {
+            char typeCode = (char) buffer.get();
+            byte flags = buffer.get();
+            if (flags != 0 && flags != DONE_FLAG) {
+                throw corrupted(recordNumber, String.format("invalid done flag '%d' (expected 0 or 1)", flags));
+            }
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                throw corrupted(recordNumber, String.format("invalid description length %d", length));
+            }
+            buffer.position(buffer.position() + length);
+
+            TaskType taskType;
+            try {
+                taskType = TaskType.fromStorageCode(String.valueOf(typeCode));
+            } catch (IllegalArgumentException e) {
+                throw corrupted(recordNumber, String.format("unknown task type '%s'", typeCode));
+            }
+            int dateTimeCount = switch (taskType) {
+                case TODO -> 0;
+                case DEADLINE -> 1;
+                case EVENT -> 2;
+                default -> throw new AssertionError("Unreachable state: Unknown task type is read.");
+            };
+            for (int i = 0; i < dateTimeCount; i++) {
+                validateEpochSecond(buffer.getLong(), recordNumber);
+            }
+        } catch (BufferUnderflowException e) {
+            throw corrupted(recordNumber, "unexpected end of file");
+        }
+        return recordOffset;
+    }
+
+    private void validateEpochSecond(long epochSecond, int recordNumber) throws IOException {
+        boolean isInRange = epochSecond >= MIN_EPOCH_SECOND && epochSecond <= MAX_EPOCH_SECOND;
+        if (!isInRange) {
+            throw corrupted(recordNumber, "date/time out of range");
+        }
+    }
+
+    private LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private String toHex(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private IOException corrupted(int recordNumber, String reason) {
+        return new IOException(String.format("Data file is corrupted at task %d: %s.", recordNumber, reason));
+    }
+}
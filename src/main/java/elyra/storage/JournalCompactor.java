@@ -0,0 +1,175 @@
+package elyra.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import elyra.task.TaskList;
+
+/**
+ * Folds the journal of a Storage back into its snapshot on a background thread.
+ * The active journal is first renamed aside, so new changes keep being appended while the fresh snapshot is built
+ * from the old snapshot and the renamed journal only. Every step is either a rename or a write to a temporary file,
+ * so a crash at any point leaves files that {@link #recoverInterruptedCompaction()} can bring back to a consistent
+ * state.
+ * A compaction that fails, e.g. on a corrupted record in the snapshot, would fail the same way every time, so it is
+ * reported once by the next request and not retried until a full save has replaced the files.
+ */
+class JournalCompactor {
+    static final String ROLLED_JOURNAL_SUFFIX = ".compacting";
+    static final String TEMP_SNAPSHOT_SUFFIX = ".tmp";
+    static final String COMPLETED_SNAPSHOT_SUFFIX = ".compacted";
+
+    private final Storage storage;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final Path rolledJournalPath;
+    private final Path tempSnapshotPath;
+    private final Path completedSnapshotPath;
+    private ExecutorService executor;
+    private Future<?> pendingCompaction;
+    // The failure of the last compaction, until it is reported by the next request.
+    private IOException failure;
+    // Kept until a full save, since the files the last compaction failed on would make it fail again.
+    private boolean hasFailed = false;
+
+    /**
+     * Creates a new JournalCompactor for the given snapshot and journal files.
+     *
+     * @param storage Storage used to read and write the files.
+     * @param snapshotPath Path of the snapshot file.
+     * @param journalPath Path of the active journal file.
+     */
+    JournalCompactor(Storage storage, Path snapshotPath, Path journalPath) {
+        this.storage = storage;
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+        this.rolledJournalPath = Paths.get(journalPath + ROLLED_JOURNAL_SUFFIX);
+        this.tempSnapshotPath = Paths.get(snapshotPath + TEMP_SNAPSHOT_SUFFIX);
+        this.completedSnapshotPath = Paths.get(snapshotPath + COMPLETED_SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the journal being folded into the snapshot.
+     * Its changes come after the snapshot and before the active journal.
+     */
+    Path getRolledJournalPath() {
+        return this.rolledJournalPath;
+    }
+
+    /**
+     * Brings the files back to a consistent state after a compaction was interrupted, e.g. by a crash.
+     * A completed snapshot already contains the rolled journal, so it is swapped in and the rolled journal dropped.
+     * A half-written temporary snapshot is simply discarded.
+     *
+     * @throws IOException If the files cannot be renamed or deleted.
+     */
+    synchronized void recoverInterruptedCompaction() throws IOException {
+        awaitIdle();
+        if (Files.exists(this.completedSnapshotPath)) {
+            Files.deleteIfExists(this.rolledJournalPath);
+            Files.move(this.completedSnapshotPath, this.snapshotPath,
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(this.tempSnapshotPath);
+    }
+
+    /**
+     * Starts a compaction in the background unless one is already running or an earlier one failed.
+     * If no earlier compaction is left unfinished, the active journal is renamed aside first.
+     *
+     * @return True if the active journal was renamed aside, so a new one will be started.
+     * @throws IOException If the active journal cannot be renamed, or the last compaction failed.
+     */
+    synchronized boolean requestCompaction() throws IOException {
+        if (this.pendingCompaction != null && !this.pendingCompaction.isDone()) {
+            return false;
+        }
+        awaitIdle();
+        if (this.failure != null) {
+            IOException failure = this.failure;
+            this.failure = null;
+            throw new IOException("Could not fold the journal into the data file: " + failure.getMessage(), failure);
+        }
+        if (this.hasFailed) {
+            return false;
+        }
+
+        boolean isJournalRolled = false;
+        if (Files.notExists(this.rolledJournalPath)) {
+            if (Files.notExists(this.journalPath)) {
+                return false;
+            }
+            Files.move(this.journalPath, this.rolledJournalPath, StandardCopyOption.ATOMIC_MOVE);
+            isJournalRolled = true;
+        }
+        this.pendingCompaction = getExecutor().submit(() -> {
+            compact();
+            return null;
+        });
+        return isJournalRolled;
+    }
+
+    /**
+     * Blocks until the running compaction, if any, has finished.
+     * A failed compaction leaves its rolled journal in place, which is still replayed on load, so no data is lost.
+     */
+    synchronized void awaitIdle() {
+        if (this.pendingCompaction == null) {
+            return;
+        }
+        try {
+            this.pendingCompaction.get();
+        } catch (ExecutionException e) {
+            this.failure = e.getCause() instanceof IOException ioException
+                    ? ioException
+                    : new IOException(e.getCause().getMessage(), e.getCause());
+            this.hasFailed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.pendingCompaction = null;
+    }
+
+    /**
+     * Forgets a failed compaction, once a full save has replaced the snapshot and journals it failed on.
+     */
+    synchronized void clearFailure() {
+        awaitIdle();
+        this.failure = null;
+        this.hasFailed = false;
+    }
+
+    private void compact() throws IOException {
+        TaskList tasks = new TaskList(this.storage.readSnapshot(this.snapshotPath));
+        this.storage.replayJournal(this.rolledJournalPath, tasks);
+
+        this.storage.writeSnapshot(this.tempSnapshotPath, tasks.getTasks());
+        Storage.syncFile(this.tempSnapshotPath);
+
+        // Once renamed to the completed name, the new snapshot is authoritative even if we crash below.
+        Files.move(this.tempSnapshotPath, this.completedSnapshotPath, StandardCopyOption.ATOMIC_MOVE);
+        Storage.syncDirectory(this.completedSnapshotPath);
+        Files.delete(this.rolledJournalPath);
+        Files.move(this.completedSnapshotPath, this.snapshotPath,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Storage.syncDirectory(this.snapshotPath);
+    }
+
+    private ExecutorService getExecutor() {
+        if (this.executor == null) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "elyra-journal-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.executor;
+    }
+}
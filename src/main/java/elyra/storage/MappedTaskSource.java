@@ -0,0 +1,81 @@
+package elyra.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import elyra.task.Task;
+import elyra.task.TaskSource;
+
+/**
+ * Represents the tasks of a binary snapshot file mapped into memory.
+ * Loading only records where each task starts, so a task is validated and decoded when it is first used.
+ * A task found corrupted then is set aside in a quarantine and replaced by a placeholder, since the list is already
+ * in use; the rejected records are saved by {@link #saveRejectedRecords()} before the file holding them is replaced.
+ */
+class MappedTaskSource implements TaskSource {
+    private final BinaryTaskCodec codec;
+    private final ByteBuffer buffer;
+    private final int[] recordOffsets;
+    // Guarded by this, since tasks may be decoded on several threads.
+    private final Quarantine quarantine;
+    private final Map<Integer, Task> placeholdersBySlot = new HashMap<>();
+
+    /**
+     * Maps and indexes the given binary snapshot file.
+     *
+     * @param codec Codec used to index and decode the file.
+     * @param snapshotPath Path of the binary snapshot file.
+     * @param quarantine Recovering quarantine to set corrupted tasks aside in.
+     * @throws IOException If the file cannot be mapped or cannot be indexed.
+     */
+    MappedTaskSource(BinaryTaskCodec codec, Path snapshotPath, Quarantine quarantine) throws IOException {
+        assert !quarantine.isStrict() : "MappedTaskSource needs a recovering quarantine";
+        this.codec = codec;
+        this.buffer = codec.map(snapshotPath);
+        this.recordOffsets = codec.indexRecords(this.buffer);
+        this.quarantine = quarantine;
+    }
+
+    @Override
+    public int size() {
+        return this.recordOffsets.length;
+    }
+
+    @Override
+    public Task decode(int slot) {
+        try {
+            this.codec.validateRecord(this.buffer, this.recordOffsets[slot], slot + 1);
+        } catch (IOException e) {
+            return setAside(slot, e);
+        }
+        return this.codec.decodeRecord(this.buffer, this.recordOffsets[slot]);
+    }
+
+    /**
+     * Appends the records set aside so far to the quarantine file and forces them to disk.
+     *
+     * @throws IOException If an error occurs while writing to the quarantine file.
+     */
+    synchronized void saveRejectedRecords() throws IOException {
+        this.quarantine.save();
+    }
+
+    private synchronized Task setAside(int slot, IOException error) {
+        // Two threads may decode the same task before either caches it, but its record is only set aside once.
+        Task placeholder = this.placeholdersBySlot.get(slot);
+        if (placeholder != null) {
+            return placeholder;
+        }
+        try {
+            this.quarantine.reject(error, this.codec.getRecordHex(this.buffer, this.recordOffsets[slot]));
+        } catch (IOException e) {
+            throw new AssertionError("Unreachable state: A recovering quarantine failed the read.", e);
+        }
+        placeholder = this.quarantine.createPlaceholder();
+        this.placeholdersBySlot.put(slot, placeholder);
+        return placeholder;
+    }
+}
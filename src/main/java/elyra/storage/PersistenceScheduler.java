@@ -0,0 +1,184 @@
+package elyra.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import elyra.task.Task;
+import elyra.task.TaskChange;
+import elyra.task.TaskList;
+
+/**
+ * Saves the changes of a TaskList on a dedicated writer thread, so that the thread mutating it never waits on disk.
+ * Changes requested while a write is in progress are coalesced into the next single write.
+ * The TaskList is only touched by the thread calling this scheduler; the writer only sees drained changes and,
+ * when a full save is needed, a snapshot of the tasks taken on the calling thread.
+ * A task carried by a change always holds the state it had when the change was made, since a TaskList only ever
+ * changes copies of its tasks.
+ */
+public class PersistenceScheduler {
+    private final Storage storage;
+    private final ExecutorService writer;
+    private Consumer<IOException> errorHandler = error -> { };
+
+    // Guarded by this: everything handed to the writer but not yet written.
+    private List<TaskChange> pendingChanges = new ArrayList<>();
+    private List<Task> pendingSnapshot;
+    private boolean isWriteScheduled = false;
+    private boolean needsFullSave = false;
+
+    /**
+     * Creates a new PersistenceScheduler writing through the given Storage.
+     *
+     * @param storage Storage to write tasks with.
+     */
+    public PersistenceScheduler(Storage storage) {
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elyra-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler called on the writer thread when a background write fails.
+     * The changes of a failed write are not lost: the next save rewrites the whole file.
+     *
+     * @param errorHandler Handler receiving the error.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        assert errorHandler != null : "setErrorHandler called with null handler";
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Makes the next save rewrite the whole file instead of appending to the journal.
+     * Used when the journal cannot be trusted, e.g. after the file failed to load.
+     */
+    public synchronized void requireFullSave() {
+        this.needsFullSave = true;
+    }
+
+    /**
+     * Hands the changes of the TaskList to the writer thread and returns without waiting for them to be written.
+     *
+     * @param tasks TaskList whose changes to save.
+     */
+    public void requestSave(TaskList tasks) {
+        synchronized (this) {
+            collectPending(tasks);
+            if (this.isWriteScheduled) {
+                return; // The scheduled write has not started yet, so it will pick these changes up too.
+            }
+            this.isWriteScheduled = true;
+        }
+        this.writer.submit(this::writeInBackground);
+    }
+
+    /**
+     * Saves the changes of the TaskList and waits until they are written.
+     * Failures of earlier background writes are retried by this save.
+     *
+     * @param tasks TaskList whose changes to save.
+     * @throws IOException If an error occurs while writing.
+     */
+    public void saveNow(TaskList tasks) throws IOException {
+        awaitIdle();
+        synchronized (this) {
+            collectPending(tasks);
+        }
+        Future<?> write = this.writer.submit(() -> {
+            writePending();
+            return null;
+        });
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving tasks.");
+        }
+    }
+
+    /**
+     * Saves the changes of the TaskList, then stops the writer thread and waits for background compaction.
+     * Called when the application exits, so that no change is left unsaved.
+     *
+     * @param tasks TaskList whose changes to save.
+     * @throws IOException If an error occurs while writing.
+     */
+    public void shutdown(TaskList tasks) throws IOException {
+        try {
+            saveNow(tasks);
+        } finally {
+            this.writer.shutdown();
+            this.storage.awaitCompaction();
+        }
+    }
+
+    private void collectPending(TaskList tasks) {
+        if (this.needsFullSave) {
+            // The snapshot already holds every change, including ones waiting in pendingChanges, and never changes
+            // while it is written.
+            this.pendingSnapshot = tasks.snapshot().getTasks();
+            this.pendingChanges = new ArrayList<>();
+            this.needsFullSave = false;
+            tasks.discardChanges();
+            return;
+        }
+        this.pendingChanges.addAll(tasks.drainChanges());
+    }
+
+    private void writeInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            this.errorHandler.accept(e);
+        }
+    }
+
+    private void writePending() throws IOException {
+        List<Task> snapshot;
+        List<TaskChange> changes;
+        synchronized (this) {
+            snapshot = this.pendingSnapshot;
+            changes = this.pendingChanges;
+            this.pendingSnapshot = null;
+            this.pendingChanges = new ArrayList<>();
+            this.isWriteScheduled = false;
+        }
+        try {
+            if (snapshot != null) {
+                this.storage.saveTasks(snapshot);
+            }
+            this.storage.appendChanges(changes);
+        } catch (IOException e) {
+            // The taken changes are lost from the journal, so only a full rewrite can bring it back in sync.
+            synchronized (this) {
+                this.needsFullSave = true;
+            }
+            throw e;
+        }
+    }
+
+    private void awaitIdle() throws IOException {
+        try {
+            this.writer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unreachable state: An empty task failed.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving tasks.");
+        }
+    }
+}
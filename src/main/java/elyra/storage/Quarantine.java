@@ -0,0 +1,142 @@
+package elyra.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import elyra.task.Task;
+import elyra.task.TaskList;
+import elyra.task.ToDo;
+
+/**
+ * Decides what happens to a corrupted record met while reading the storage files.
+ * A strict quarantine fails the whole read on the first corrupted record. A recovering one sets the record aside
+ * with the reason it was rejected, so that reading can go on with the next record, and later appends every rejected
+ * record to a quarantine file so that none of them is lost.
+ * A rejected snapshot record is replaced by a placeholder task until the journal has been replayed, since the
+ * journal refers to tasks by their index. Placeholders are told apart by their class, which a copy of one keeps when
+ * the journal marks it. A task of a lazily loaded snapshot is only found corrupted once the list is in use, so its
+ * placeholder is kept in the list instead.
+ */
+class Quarantine {
+    private final Path quarantinePath;
+    private final List<String> entries = new ArrayList<>();
+    private int placeholderCount = 0;
+    private int rejectedCount = 0;
+
+    private Quarantine(Path quarantinePath) {
+        this.quarantinePath = quarantinePath;
+    }
+
+    /**
+     * Returns a quarantine that fails the read on the first corrupted record.
+     */
+    static Quarantine strict() {
+        return new Quarantine(null);
+    }
+
+    /**
+     * Returns a quarantine that sets corrupted records aside, to be saved to the given file.
+     *
+     * @param quarantinePath Path of the file to append rejected records to.
+     */
+    static Quarantine recovering(Path quarantinePath) {
+        assert quarantinePath != null : "recovering called with null path";
+        return new Quarantine(quarantinePath);
+    }
+
+    boolean isStrict() {
+        return this.quarantinePath == null;
+    }
+
+    Path getPath() {
+        return this.quarantinePath;
+    }
+
+    /**
+     * Returns the number of records set aside so far.
+     */
+    int size() {
+        return this.rejectedCount;
+    }
+
+    /**
+     * Rejects a corrupted record.
+     *
+     * @param error Error describing why the record is corrupted.
+     * @param record Raw content of the record, as text.
+     * @throws IOException The given error, if this quarantine is strict.
+     */
+    void reject(IOException error, String record) throws IOException {
+        if (isStrict()) {
+            throw error;
+        }
+        this.entries.add("# " + error.getMessage());
+        this.entries.add(record);
+        this.rejectedCount += 1;
+    }
+
+    /**
+     * Returns a new placeholder task to hold the place of a rejected snapshot record.
+     */
+    Task createPlaceholder() {
+        assert !isStrict() : "createPlaceholder called on a strict quarantine";
+        this.placeholderCount += 1;
+        return new Placeholder();
+    }
+
+    /**
+     * Deletes the placeholder tasks still in the given list.
+     * Placeholders replaced by the journal are gone already, since the journal held their whole new state.
+     *
+     * @param tasks Tasks to remove the placeholders from.
+     */
+    void removePlaceholders(TaskList tasks) {
+        for (int index = tasks.size(); index >= 1 && this.placeholderCount > 0; index--) {
+            if (tasks.getTask(index) instanceof Placeholder) {
+                tasks.deleteTask(index);
+                this.placeholderCount -= 1;
+            }
+        }
+    }
+
+    /**
+     * Appends the records set aside so far to the quarantine file and forces them to disk.
+     *
+     * @throws IOException If an error occurs while writing to the quarantine file.
+     */
+    void save() throws IOException {
+        assert !isStrict() : "save called on a strict quarantine";
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (String entry : this.entries) {
+            content.append(entry).append(System.lineSeparator());
+        }
+        try (FileChannel channel = FileChannel.open(this.quarantinePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Storage.syncDirectory(this.quarantinePath);
+        this.entries.clear();
+    }
+
+    /**
+     * Represents a task holding the place of a rejected snapshot record.
+     */
+    private static class Placeholder extends ToDo {
+        private Placeholder() {
+            super("(corrupted task)");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package elyra.storage;
+
+import java.nio.file.Path;
+
+import elyra.task.TaskList;
+
+/**
+ * Represents the tasks kept when loading corrupted storage files, with the records that had to be set aside.
+ *
+ * @param tasks Tasks that are not corrupted.
+ * @param quarantinedCount Number of corrupted records set aside.
+ * @param quarantinePath Path of the file the corrupted records were appended to.
+ */
+public record RecoveredTasks(TaskList tasks, int quarantinedCount, Path quarantinePath) {
+    /**
+     * Constructs a new RecoveredTasks and validates its components.
+     */
+    public RecoveredTasks {
+        assert tasks != null && quarantinePath != null : "RecoveredTasks components cannot be null";
+        assert quarantinedCount >= 0 : "quarantinedCount cannot be negative";
+    }
+}
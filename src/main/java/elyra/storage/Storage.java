@@ -1,20 +1,29 @@
 package elyra.storage;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
 
+import elyra.task.DateTimeCodec;
 import elyra.task.Deadline;
 import elyra.task.Event;
 import elyra.task.Task;
+import elyra.task.TaskChange;
 import elyra.task.TaskList;
 import elyra.task.TaskType;
 import elyra.task.ToDo;
@@ -22,109 +31,542 @@ import elyra.task.ToDo;
 /**
  * Represents persistent storage for tasks.
  * A Storage object handles loading tasks from and saving tasks to a file.
+ * Tasks are kept as a snapshot file plus an append-only journal of changes made since that snapshot,
+ * so that a single mutation only costs one appended record instead of a full rewrite.
+ * Once the journal grows past its limits, a JournalCompactor folds it back into the snapshot in the background.
+ * The snapshot is either human-readable text or a compact binary encoding, told apart by a magic header.
+ * A binary snapshot is mapped into memory on load and its tasks are only validated and decoded when first used; a
+ * task found corrupted then is shown as a placeholder, and its record is set aside before the snapshot is replaced.
+ * Every record carries a CRC32C checksum and every file is forced to disk before it is relied on, so a crash never
+ * leaves a half-written snapshot in place, and a corrupted record can be set aside without losing the others.
  */
 public class Storage {
     public static final String DEFAULT_PATH = "./data/elyra.txt";
     public static final String DELIM = " ||| ";
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String QUARANTINE_SUFFIX = ".corrupt";
+    private static final String CHECKSUM_PREFIX = "#";
+    private static final int CHECKSUM_HEX_DIGITS = 8;
+    private static final String SAVING_SNAPSHOT_SUFFIX = ".saving";
     private static final String DELIM_REGEX = Pattern.quote(DELIM);
+    private static final String DATA_FILE_LABEL = "Data file";
+    private static final String JOURNAL_FILE_LABEL = "Journal file";
     private static final int DEADLINE_FIELDS_NUM = 4;
     private static final int EVENT_FIELDS_NUM = 5;
     private static final int TASK_FIELDS_NUM = 3;
-    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME
-            .withResolverStyle(ResolverStyle.STRICT);
+    private static final int JOURNAL_HEADER_FIELDS_NUM = 2;
+    private static final int DEFAULT_MAX_JOURNAL_RECORDS = 10_000;
+    private static final long DEFAULT_MAX_JOURNAL_BYTES = 4L * 1024 * 1024;
 
     private final Path filePath;
+    private final Path journalPath;
+    private final StorageFormat format;
+    private final BinaryTaskCodec binaryCodec = new BinaryTaskCodec();
+    private final JournalCompactor compactor;
+    // The binary snapshot last loaded lazily, whose corrupted tasks are only found as they are decoded.
+    private MappedTaskSource mappedSnapshot;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+    private int journalRecordCount = 0;
+    private long journalByteCount = 0;
 
     /**
      * Creates a new Storage instance with the specified file path.
+     * The journal is kept next to it, with the same name suffixed by {@value #JOURNAL_SUFFIX}.
      *
      * @param filePath Path to the file where tasks will be stored.
      */
     public Storage(String filePath) {
+        this(filePath, StorageFormat.TEXT);
+    }
+
+    /**
+     * Creates a new Storage instance that writes its snapshot file in the specified format.
+     * A snapshot found in the other format is migrated to this one when tasks are loaded.
+     *
+     * @param filePath Path to the file where tasks will be stored.
+     * @param format Format to write the snapshot file in.
+     */
+    public Storage(String filePath, StorageFormat format) {
+        this(filePath, format, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a new Storage instance that compacts its journal once it reaches either of the given limits.
+     *
+     * @param filePath Path to the file where tasks will be stored.
+     * @param format Format to write the snapshot file in.
+     * @param maxJournalRecords Number of journal records that triggers a compaction.
+     * @param maxJournalBytes Journal size in bytes that triggers a compaction.
+     */
+    Storage(String filePath, StorageFormat format, int maxJournalRecords, long maxJournalBytes) {
+        assert format != null : "Storage created with null format";
+        assert maxJournalRecords > 0 : "maxJournalRecords must be positive";
+        assert maxJournalBytes > 0 : "maxJournalBytes must be positive";
         this.filePath = Paths.get(filePath);
+        this.journalPath = Paths.get(filePath + JOURNAL_SUFFIX);
+        this.format = format;
+        this.compactor = new JournalCompactor(this, this.filePath, this.journalPath);
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
     }
 
     /**
-     * Loads tasks from the storage file.
+     * Loads tasks from the storage file, then replays the journal of changes made since it was written.
+     * If the storage file is in another format than this Storage writes, it is rewritten in this format.
+     * Otherwise, if the journal has grown past its limits, a compaction is started in the background.
      *
      * @return TaskList containing all tasks loaded from the file.
      * @throws IOException If an error occurs while reading the file or data is corrupted.
      */
     public TaskList loadTasks() throws IOException {
-        if (Files.notExists(this.filePath)) {
-            return new TaskList();
+        this.compactor.recoverInterruptedCompaction();
+        Files.deleteIfExists(Paths.get(this.filePath + SAVING_SNAPSHOT_SUFFIX));
+        boolean needsMigration = Files.exists(this.filePath)
+                && this.binaryCodec.isBinaryFile(this.filePath) != (this.format == StorageFormat.BINARY);
+
+        TaskList tasks = loadSnapshot();
+        boolean hasUnfinishedCompaction = replayJournals(tasks, Quarantine.strict());
+        tasks.discardChanges();
+
+        if (needsMigration) {
+            saveTasks(tasks);
+            return tasks;
+        }
+        if (hasUnfinishedCompaction) {
+            this.compactor.requestCompaction();
         }
+        compactIfNeeded();
+        return tasks;
+    }
+
+    /**
+     * Loads every task that is not corrupted, for when {@link #loadTasks()} failed on corrupted data.
+     * Corrupted records are skipped and appended, with the reason each was rejected, to a file next to the storage
+     * file suffixed by {@value #QUARANTINE_SUFFIX}, so that none of them is lost. The tasks kept are then saved,
+     * replacing the corrupted files, so the same records are not met again on the next load.
+     *
+     * @return Tasks kept, with the number of records set aside and where they were saved.
+     * @throws IOException If an error occurs while reading or writing the files.
+     */
+    public RecoveredTasks recoverTasks() throws IOException {
+        this.compactor.recoverInterruptedCompaction();
+        Files.deleteIfExists(Paths.get(this.filePath + SAVING_SNAPSHOT_SUFFIX));
 
-        try (Scanner scanner = new Scanner(this.filePath)) {
-            TaskList tasks = new TaskList();
+        // Every record is read again here, so those set aside by the failed load would otherwise be saved twice.
+        this.mappedSnapshot = null;
+        Quarantine quarantine = Quarantine.recovering(Paths.get(this.filePath + QUARANTINE_SUFFIX));
+        TaskList tasks = new TaskList(readSnapshot(this.filePath, quarantine));
+        replayJournals(tasks, quarantine);
+        quarantine.removePlaceholders(tasks);
+
+        // The rejected records must be safely set aside before the files holding them are replaced.
+        quarantine.save();
+        saveTasks(tasks);
+        return new RecoveredTasks(tasks, quarantine.size(), quarantine.getPath());
+    }
+
+    /**
+     * Saves all tasks to the storage file, replacing its previous content and clearing the journal.
+     * Any changes still pending in the task list are discarded since they are covered by this save.
+     * Waits for a running compaction first, since it would otherwise overwrite this save.
+     *
+     * @param tasks TaskList containing all tasks to be saved.
+     * @throws IOException If an error occurs while writing to the file.
+     */
+    public void saveTasks(TaskList tasks) throws IOException {
+        assert tasks != null : "saveTasks called with null TaskList";
+        assert tasks.getTasks() != null : "TaskList.getTasks() returned null";
+
+        saveTasks(tasks.getTasks());
+        tasks.discardChanges();
+    }
+
+    /**
+     * Saves the given tasks to the storage file, replacing its previous content and clearing the journal.
+     * Waits for a running compaction first, since it would otherwise overwrite this save.
+     *
+     * @param tasks All tasks to be saved, in order.
+     * @throws IOException If an error occurs while writing to the file.
+     */
+    public void saveTasks(List<Task> tasks) throws IOException {
+        assert tasks != null : "saveTasks called with null tasks";
+
+        createParentDirectories();
+        this.compactor.awaitIdle();
+        if (this.mappedSnapshot != null) {
+            // The corrupted tasks found so far must be safely set aside before the file holding them is replaced.
+            this.mappedSnapshot.saveRejectedRecords();
+        }
+
+        // The snapshot is replaced by a rename instead of overwritten, so a crash never leaves it half-written and
+        // a loaded snapshot still mapped into memory is never truncated underneath it.
+        Path tempSnapshotPath = Paths.get(this.filePath + SAVING_SNAPSHOT_SUFFIX);
+        writeSnapshot(tempSnapshotPath, tasks);
+        syncFile(tempSnapshotPath);
+        Files.move(tempSnapshotPath, this.filePath,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(this.filePath);
+        Files.deleteIfExists(this.journalPath);
+        Files.deleteIfExists(this.compactor.getRolledJournalPath());
+        this.compactor.clearFailure();
+        this.journalRecordCount = 0;
+        this.journalByteCount = 0;
+    }
+
+    /**
+     * Appends the given changes to the journal and forces them to disk.
+     * The cost of this call depends only on the number of changes, not on the size of the task list.
+     * A crash while appending can only cut the last record short, which its checksum then reveals.
+     * If the journal has grown past its limits, a compaction is started in the background.
+     * A failed compaction is reported by the next append and not retried until the next full save.
+     *
+     * @param changes Changes to persist, in the order they were applied.
+     * @throws IOException If an error occurs while writing to the journal, or the last compaction failed; the
+     *     changes are appended in the latter case, but the files are only compacted again by a full save.
+     */
+    public void appendChanges(List<TaskChange> changes) throws IOException {
+        assert changes != null : "appendChanges called with null changes";
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        createParentDirectories();
+
+        StringBuilder records = new StringBuilder();
+        for (TaskChange change : changes) {
+            records.append(withChecksum(serializeChange(change))).append(System.lineSeparator());
+        }
+        byte[] recordBytes = records.toString().getBytes(StandardCharsets.UTF_8);
+        boolean isNewJournal = Files.notExists(this.journalPath);
+        try (FileChannel channel = FileChannel.open(this.journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(recordBytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        if (isNewJournal) {
+            syncDirectory(this.journalPath);
+        }
+        this.journalRecordCount += changes.size();
+        this.journalByteCount += recordBytes.length;
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Blocks until any background compaction started by this Storage has finished.
+     */
+    public void awaitCompaction() {
+        this.compactor.awaitIdle();
+    }
+
+    /**
+     * Reads the tasks of a snapshot file in either format.
+     *
+     * @param snapshotPath Path of the snapshot to read.
+     * @return Tasks in the snapshot, or an empty list if it does not exist.
+     * @throws IOException If an error occurs while reading the file or data is corrupted.
+     */
+    ArrayList<Task> readSnapshot(Path snapshotPath) throws IOException {
+        return readSnapshot(snapshotPath, Quarantine.strict());
+    }
+
+    /**
+     * Reads the tasks of a snapshot file in either format, handing corrupted records to the given quarantine.
+     *
+     * @param snapshotPath Path of the snapshot to read.
+     * @param quarantine Quarantine deciding what happens to corrupted records.
+     * @return Tasks in the snapshot, with placeholders for corrupted ones, or an empty list if it does not exist.
+     * @throws IOException If an error occurs while reading the file or the quarantine rejects a corrupted record.
+     */
+    ArrayList<Task> readSnapshot(Path snapshotPath, Quarantine quarantine) throws IOException {
+        if (Files.notExists(snapshotPath)) {
+            return new ArrayList<>();
+        }
+        if (this.binaryCodec.isBinaryFile(snapshotPath)) {
+            return this.binaryCodec.read(snapshotPath, quarantine);
+        }
+
+        ArrayList<Task> tasks = new ArrayList<>();
+        try (Scanner scanner = new Scanner(snapshotPath, StandardCharsets.UTF_8)) {
             int lineNumber = 0;
             while (scanner.hasNextLine()) {
-                String line = scanner.nextLine().trim();
+                String line = scanner.nextLine();
                 lineNumber += 1;
-                if (line.isEmpty()) {
+                if (line.isBlank()) {
                     continue;
                 }
-                Task task = parseTaskFromLine(line, lineNumber);
-                tasks.addTask(task);
+                try {
+                    tasks.add(parseTaskFromLine(line, lineNumber));
+                } catch (IOException e) {
+                    quarantine.reject(e, line);
+                    tasks.add(quarantine.createPlaceholder());
+                }
             }
-            return tasks;
         }
+        return tasks;
     }
 
     /**
-     * Saves tasks to the storage file.
+     * Applies every change recorded in a journal file to the given tasks.
      *
-     * @param tasks TaskList containing all tasks to be saved.
+     * @param journalFilePath Path of the journal to replay.
+     * @param tasks Tasks to apply the changes to.
+     * @return Number of changes applied.
+     * @throws IOException If an error occurs while reading the file or data is corrupted.
+     */
+    int replayJournal(Path journalFilePath, TaskList tasks) throws IOException {
+        return replayJournal(journalFilePath, tasks, Quarantine.strict());
+    }
+
+    /**
+     * Applies every change recorded in a journal file to the given tasks, handing corrupted records to the given
+     * quarantine. When recovering, an added task is appended even if its index is off, since an earlier added task
+     * may have been set aside.
+     *
+     * @param journalFilePath Path of the journal to replay.
+     * @param tasks Tasks to apply the changes to.
+     * @param quarantine Quarantine deciding what happens to corrupted records.
+     * @return Number of changes applied.
+     * @throws IOException If an error occurs while reading the file or the quarantine rejects a corrupted record.
+     */
+    int replayJournal(Path journalFilePath, TaskList tasks, Quarantine quarantine) throws IOException {
+        int changeCount = 0;
+        try (Scanner scanner = new Scanner(journalFilePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine();
+                lineNumber += 1;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    applyChangeFromLine(tasks, line, lineNumber, quarantine.isStrict());
+                    changeCount += 1;
+                } catch (IOException e) {
+                    quarantine.reject(e, line);
+                }
+            }
+        }
+        return changeCount;
+    }
+
+    /**
+     * Writes the given tasks to a snapshot file in this Storage's format, replacing its previous content.
+     *
+     * @param snapshotPath Path of the snapshot to write.
+     * @param tasks Tasks to write, in order.
      * @throws IOException If an error occurs while writing to the file.
      */
-    public void saveTasks(TaskList tasks) throws IOException {
-        assert tasks != null : "saveTasks called with null TaskList";
-        assert tasks.getTasks() != null : "TaskList.getTasks() returned null";
+    void writeSnapshot(Path snapshotPath, List<Task> tasks) throws IOException {
+        if (this.format == StorageFormat.BINARY) {
+            this.binaryCodec.write(snapshotPath, tasks);
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(snapshotPath, StandardCharsets.UTF_8)) {
+            for (Task task : tasks) {
+                writer.write(withChecksum(serializeTask(task)));
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Forces the content of a file to disk.
+     *
+     * @param path Path of the file to force.
+     * @throws IOException If the file cannot be opened or forced.
+     */
+    static void syncFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the directory holding a file to disk, so that a rename or creation of the file survives a crash.
+     * Some platforms, like Windows, cannot open a directory for this; there it is skipped.
+     *
+     * @param path Path of the file whose directory to force.
+     */
+    static void syncDirectory(Path path) {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort: the platform does not support forcing directories.
+        }
+    }
+
+    /**
+     * Replays the rolled journal of an unfinished compaction, if any, then the active journal.
+     *
+     * @return True if a compaction was left unfinished.
+     */
+    private boolean replayJournals(TaskList tasks, Quarantine quarantine) throws IOException {
+        Path rolledJournalPath = this.compactor.getRolledJournalPath();
+        boolean hasUnfinishedCompaction = Files.exists(rolledJournalPath);
+        if (hasUnfinishedCompaction) {
+            replayJournal(rolledJournalPath, tasks, quarantine);
+        }
+        this.journalRecordCount = 0;
+        this.journalByteCount = 0;
+        if (Files.exists(this.journalPath)) {
+            this.journalRecordCount = replayJournal(this.journalPath, tasks, quarantine);
+            this.journalByteCount = Files.size(this.journalPath);
+        }
+        return hasUnfinishedCompaction;
+    }
 
+    private TaskList loadSnapshot() throws IOException {
+        boolean isBinarySnapshot = Files.exists(this.filePath) && this.binaryCodec.isBinaryFile(this.filePath);
+        if (isBinarySnapshot) {
+            this.mappedSnapshot = new MappedTaskSource(this.binaryCodec, this.filePath,
+                    Quarantine.recovering(Paths.get(this.filePath + QUARANTINE_SUFFIX)));
+            return new TaskList(this.mappedSnapshot);
+        }
+        this.mappedSnapshot = null;
+        return new TaskList(readSnapshot(this.filePath));
+    }
+
+    private void compactIfNeeded() throws IOException {
+        boolean isJournalFull = this.journalRecordCount >= this.maxJournalRecords
+                || this.journalByteCount >= this.maxJournalBytes;
+        if (!isJournalFull) {
+            return;
+        }
+        if (this.compactor.requestCompaction()) {
+            this.journalRecordCount = 0;
+            this.journalByteCount = 0;
+        }
+    }
+
+    private void createParentDirectories() throws IOException {
         Path parent = filePath.getParent();
         if (parent != null) {
             Files.createDirectories(parent);
         }
+    }
+
+    private void applyChangeFromLine(TaskList tasks, String line, int lineNumber, boolean isStrict)
+            throws IOException {
+        String[] parts = stripChecksum(line, JOURNAL_FILE_LABEL, lineNumber).split(DELIM_REGEX);
+        if (parts.length < JOURNAL_HEADER_FIELDS_NUM) {
+            String errorMessage = String.format(
+                    "Journal file is corrupted at line %d: not enough fields for a change.", lineNumber);
+            throw new IOException(errorMessage);
+        }
+
+        TaskChange.Type changeType;
+        int index;
+        try {
+            changeType = TaskChange.Type.fromJournalCode(parts[0]);
+            index = Integer.parseInt(parts[1]);
+        } catch (IllegalArgumentException e) {
+            String errorMessage = String.format("Journal file is corrupted at line %d: invalid change '%s %s'.",
+                    lineNumber, parts[0], parts[1]);
+            throw new IOException(errorMessage);
+        }
 
-        try (FileWriter writer = new FileWriter(filePath.toFile(), false)) {
-            for (Task task : tasks.getTasks()) {
-                writer.write(serializeTask(task) + System.lineSeparator());
+        String[] taskParts = Arrays.copyOfRange(parts, JOURNAL_HEADER_FIELDS_NUM, parts.length);
+        try {
+            switch (changeType) {
+                case ADD -> addReplayedTask(tasks, index, parseTask(taskParts, JOURNAL_FILE_LABEL, lineNumber),
+                        isStrict);
+                case DELETE -> tasks.deleteTask(index);
+                case MARK -> tasks.markTask(index);
+                case UNMARK -> tasks.unmarkTask(index);
+                case UPDATE -> tasks.replaceTask(index, parseTask(taskParts, JOURNAL_FILE_LABEL, lineNumber));
+                default -> throw new AssertionError("Unreachable state: Unknown change is replayed.");
             }
+        } catch (IndexOutOfBoundsException e) {
+            String errorMessage = String.format(
+                    "Journal file is corrupted at line %d: task index %d does not exist.", lineNumber, index);
+            throw new IOException(errorMessage);
         }
     }
 
+    private void addReplayedTask(TaskList tasks, int index, Task task, boolean isStrict) {
+        // An added task always lands at the end, so a mismatch means the journal does not belong to this snapshot.
+        if (isStrict && index != tasks.size() + 1) {
+            throw new IndexOutOfBoundsException("Added task index does not match the end of the list.");
+        }
+        tasks.addTask(task);
+    }
+
     private Task parseTaskFromLine(String line, int lineNumber) throws IOException {
-        String[] parts = line.split(DELIM_REGEX);
-        validateMinFields(parts, lineNumber);
+        String[] parts = stripChecksum(line, DATA_FILE_LABEL, lineNumber).split(DELIM_REGEX);
+        return parseTask(parts, DATA_FILE_LABEL, lineNumber);
+    }
+
+    /**
+     * Verifies the checksum leading a line and returns the record after it.
+     * Lines without a checksum, written before checksums were added or edited by hand, are returned as they are.
+     */
+    private String stripChecksum(String line, String fileLabel, int lineNumber) throws IOException {
+        if (!line.startsWith(CHECKSUM_PREFIX)) {
+            return line.trim();
+        }
+        int checksumEnd = CHECKSUM_PREFIX.length() + CHECKSUM_HEX_DIGITS;
+        if (line.startsWith(DELIM, checksumEnd)) {
+            String checksum = line.substring(CHECKSUM_PREFIX.length(), checksumEnd);
+            String record = line.substring(checksumEnd + DELIM.length());
+            if (checksum.equals(formatChecksum(record))) {
+                return record;
+            }
+        }
+        String errorMessage = String.format("%s is corrupted at line %d: checksum mismatch.", fileLabel, lineNumber);
+        throw new IOException(errorMessage);
+    }
+
+    private String withChecksum(String record) {
+        return CHECKSUM_PREFIX + formatChecksum(record) + DELIM + record;
+    }
+
+    private String formatChecksum(String record) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.getBytes(StandardCharsets.UTF_8));
+        String hex = Long.toHexString(checksum.getValue());
+        return "0".repeat(CHECKSUM_HEX_DIGITS - hex.length()) + hex;
+    }
+
+    private Task parseTask(String[] parts, String fileLabel, int lineNumber) throws IOException {
+        validateMinFields(parts, fileLabel, lineNumber);
 
         String taskType = parts[0];
-        boolean isDone = parseDoneStatus(parts[1], lineNumber);
+        boolean isDone = parseDoneStatus(parts[1], fileLabel, lineNumber);
         String description = parts[2];
 
         try {
             TaskType currentTaskType = TaskType.fromStorageCode(taskType);
             return switch (currentTaskType) {
                 case TODO -> parseToDo(description, isDone);
-                case DEADLINE -> parseDeadline(parts, description, isDone, lineNumber);
-                case EVENT -> parseEvent(parts, description, isDone, lineNumber);
+                case DEADLINE -> parseDeadline(parts, description, isDone, fileLabel, lineNumber);
+                case EVENT -> parseEvent(parts, description, isDone, fileLabel, lineNumber);
                 default -> throw new AssertionError("Unreachable state: Unknown command is parsed.");
             };
         } catch (IllegalArgumentException e) {
-            String errorMessage = String.format("Data file is corrupted at line %d: unknown task type '%s'.",
-                    lineNumber, taskType);
+            String errorMessage = String.format("%s is corrupted at line %d: unknown task type '%s'.",
+                    fileLabel, lineNumber, taskType);
             throw new IOException(errorMessage);
         }
     }
 
-    private void validateMinFields(String[] parts, int lineNumber) throws IOException {
+    private void validateMinFields(String[] parts, String fileLabel, int lineNumber) throws IOException {
         if (parts.length < TASK_FIELDS_NUM) {
-            String errorMessage = String.format("Data file is corrupted at line %d: not enough fields for a task.",
-                    lineNumber);
+            String errorMessage = String.format("%s is corrupted at line %d: not enough fields for a task.",
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
     }
 
-    private boolean parseDoneStatus(String isDone, int lineNumber) throws IOException {
+    private boolean parseDoneStatus(String isDone, String fileLabel, int lineNumber) throws IOException {
         String doneFlag = "1";
         String notDoneFlag = "0";
         if (isDone.equals(doneFlag)) {
@@ -133,8 +575,8 @@ public class Storage {
             return false;
         } else {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: invalid done flag '%s' (expected 0 or 1).",
-                    lineNumber, isDone);
+                    "%s is corrupted at line %d: invalid done flag '%s' (expected 0 or 1).",
+                    fileLabel, lineNumber, isDone);
             throw new IOException(errorMessage);
         }
     }
@@ -144,50 +586,50 @@ public class Storage {
     }
 
     private Task parseDeadline(String[] parts, String description,
-                               boolean isDone, int lineNumber) throws IOException {
+                               boolean isDone, String fileLabel, int lineNumber) throws IOException {
         if (parts.length < DEADLINE_FIELDS_NUM) {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: deadline is missing field(s).",
-                    lineNumber);
+                    "%s is corrupted at line %d: deadline is missing field(s).",
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
         if (parts.length > DEADLINE_FIELDS_NUM) {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: deadline has too many fields.",
-                    lineNumber);
+                    "%s is corrupted at line %d: deadline has too many fields.",
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
-        LocalDateTime by = parseDateTime(parts[3].trim(), lineNumber);
+        LocalDateTime by = parseDateTime(parts[3].trim(), fileLabel, lineNumber);
         return new Deadline(description, isDone, by);
     }
 
     private Task parseEvent(String[] parts, String description,
-                            boolean isDone, int lineNumber) throws IOException {
+                            boolean isDone, String fileLabel, int lineNumber) throws IOException {
         if (parts.length < EVENT_FIELDS_NUM) {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: event is missing field(s).",
-                    lineNumber);
+                    "%s is corrupted at line %d: event is missing field(s).",
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
         if (parts.length > EVENT_FIELDS_NUM) {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: event has too many fields.",
-                    lineNumber);
+                    "%s is corrupted at line %d: event has too many fields.",
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
-        LocalDateTime from = parseDateTime(parts[3].trim(), lineNumber);
-        LocalDateTime to = parseDateTime(parts[4].trim(), lineNumber);
+        LocalDateTime from = parseDateTime(parts[3].trim(), fileLabel, lineNumber);
+        LocalDateTime to = parseDateTime(parts[4].trim(), fileLabel, lineNumber);
         return new Event(description, isDone, from, to);
     }
 
-    private LocalDateTime parseDateTime(String dateTimeStr, int lineNumber) throws IOException {
+    private LocalDateTime parseDateTime(String dateTimeStr, String fileLabel, int lineNumber) throws IOException {
         try {
-            return LocalDateTime.parse(dateTimeStr, this.timeFormatter);
+            return DateTimeCodec.parseStorage(dateTimeStr);
         } catch (DateTimeParseException e) {
             String errorMessage = String.format(
-                    "Data file is corrupted at line %d: invalid date/time format "
+                    "%s is corrupted at line %d: invalid date/time format "
                             + "(expected yyyy-MM-ddTHH:mm[:ss]).",
-                    lineNumber);
+                    fileLabel, lineNumber);
             throw new IOException(errorMessage);
         }
     }
@@ -195,7 +637,7 @@ public class Storage {
     private String serializeTask(Task task) {
         assert task != null : "Task to serialize should not be null";
 
-        String[] taskInfos = task.getInfos(this.timeFormatter);
+        String[] taskInfos = task.getInfos(DateTimeCodec.STORAGE_FORMATTER);
         assert taskInfos != null : "task.getInfos returned null";
         assert taskInfos.length >= 3 : "Serialized task must have at least 3 fields (type, done, desc)";
         assert taskInfos[0].equals("T") || taskInfos[0].equals("D") || taskInfos[0].equals("E")
@@ -206,4 +648,14 @@ public class Storage {
         }
         return String.join(DELIM, taskInfos);
     }
+
+    private String serializeChange(TaskChange change) {
+        assert change != null : "Change to serialize should not be null";
+
+        String header = change.type().getJournalCode() + DELIM + change.index();
+        if (change.task() == null) {
+            return header;
+        }
+        return header + DELIM + serializeTask(change.task());
+    }
 }
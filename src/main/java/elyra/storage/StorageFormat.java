@@ -0,0 +1,30 @@
+package elyra.storage;
+
+import java.util.Locale;
+
+/**
+ * Enum representing the formats a snapshot file can be written in.
+ * Loading detects the format from the file itself, so either format can always be read.
+ */
+public enum StorageFormat {
+    TEXT,
+    BINARY;
+
+    public static final String SYSTEM_PROPERTY = "elyra.storage.format";
+
+    /**
+     * Returns the format selected by the {@value #SYSTEM_PROPERTY} system property, or TEXT if it is not set.
+     *
+     * @return Selected storage format.
+     * @throws IllegalArgumentException If the property does not name a storage format.
+     */
+    public static StorageFormat fromSystemProperty() {
+        String formatName = System.getProperty(SYSTEM_PROPERTY, TEXT.name());
+        try {
+            return valueOf(formatName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown storage format '" + formatName
+                    + "'. Use text or binary.");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * Parses the date-times Elyra reads, from user input and from the data file.
+ * The usual layouts are parsed straight from their digits into a LocalDateTime. Anything else, including every
+ * invalid date-time, goes to the equivalent strict DateTimeFormatter, so the results and errors are exactly the
+ * formatter's while the common case skips its field resolution.
+ */
+public final class DateTimeCodec {
+    /** Layout of date-times typed by the user, e.g. 2024-02-01 12:30. */
+    public static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    /** Layout of date-times in the text data file, e.g. 2024-02-01T12:30:00. */
+    public static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final int MINUTES_LENGTH = "uuuu-MM-ddTHH:mm".length();
+    private static final int SECONDS_LENGTH = "uuuu-MM-ddTHH:mm:ss".length();
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     * Parses a date-time typed by the user, in the {@link #INPUT_FORMATTER} layout.
+     *
+     * @param text Text to parse.
+     * @return The parsed date-time.
+     * @throws DateTimeParseException If the text is not a valid date-time in that layout.
+     */
+    public static LocalDateTime parseInput(String text) {
+        LocalDateTime dateTime = parseDigits(text, ' ', false);
+        return dateTime != null ? dateTime : LocalDateTime.parse(text, INPUT_FORMATTER);
+    }
+
+    /**
+     * Parses a date-time from the data file, in the {@link #STORAGE_FORMATTER} layout.
+     *
+     * @param text Text to parse.
+     * @return The parsed date-time.
+     * @throws DateTimeParseException If the text is not a valid date-time in that layout.
+     */
+    public static LocalDateTime parseStorage(String text) {
+        LocalDateTime dateTime = parseDigits(text, 'T', true);
+        return dateTime != null ? dateTime : LocalDateTime.parse(text, STORAGE_FORMATTER);
+    }
+
+    /**
+     * Parses a date-time written as a four-digit year, then two digits for each other field, or returns null if
+     * the text is laid out differently or is not a valid date-time.
+     */
+    private static LocalDateTime parseDigits(String text, char dateTimeSeparator, boolean isSecondsAllowed) {
+        boolean hasSeconds = isSecondsAllowed && text.length() == SECONDS_LENGTH;
+        if (text.length() != MINUTES_LENGTH && !hasSeconds) {
+            return null;
+        }
+        boolean isLaidOut = text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == dateTimeSeparator
+                && text.charAt(13) == ':' && (!hasSeconds || text.charAt(16) == ':');
+        if (!isLaidOut) {
+            return null;
+        }
+
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 2);
+        int day = parseDigits(text, 8, 2);
+        int hour = parseDigits(text, 11, 2);
+        int minute = parseDigits(text, 14, 2);
+        int second = hasSeconds ? parseDigits(text, 17, 2) : 0;
+        boolean isValid = year >= 0 && month >= 1 && month <= 12 && day >= 1
+                && day <= Month.of(month).length(Year.isLeap(year))
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+        return isValid ? LocalDateTime.of(year, month, day, hour, minute, second) : null;
+    }
+
+    /**
+     * Returns the value of the given number of ASCII digits, or -1 if any of them is not one.
+     */
+    private static int parseDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
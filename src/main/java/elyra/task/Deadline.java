@@ -34,12 +34,24 @@ public class Deadline extends Task {
         this.by = by;
     }
 
+    public LocalDateTime getBy() {
+        return this.by;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TaskType getType() {
+        return TaskType.DEADLINE;
+    }
+
     /**
      * @inheritDoc
      */
     @Override
-    public String[] getInfos(DateTimeFormatter timeFormatter) {
-        String[] baseInfo = super.getInfos(timeFormatter);
+    protected String[] formatInfos(DateTimeFormatter timeFormatter) {
+        String[] baseInfo = super.formatInfos(timeFormatter);
         return new String[] {TaskType.DEADLINE.getStorageCode(), baseInfo[0],
                 baseInfo[1], this.by.format(timeFormatter)};
     }
@@ -48,8 +60,8 @@ public class Deadline extends Task {
      * @inheritDoc
      */
     @Override
-    public String toUiString(DateTimeFormatter timeFormatter) {
-        return TaskType.DEADLINE.getUiTag() + super.toUiString(timeFormatter)
+    protected String formatUiString(DateTimeFormatter timeFormatter) {
+        return TaskType.DEADLINE.getUiTag() + super.formatUiString(timeFormatter)
                 + " (by: " + this.by.format(timeFormatter) + ")";
     }
 
@@ -0,0 +1,161 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a search tree of deadlines, keyed by task id and ordered by due time.
+ * Ties on due time are broken by id, which keeps list order. The tree is balanced as a treap, so the earliest
+ * count deadlines cost O(log n + count) to find.
+ * The tree is persistent: adding or removing a deadline returns a new tree that copies only the O(log n) nodes on
+ * the deadline's path and shares the rest, so several threads can query any version at once.
+ */
+class DeadlineTree {
+    private static final DeadlineTree EMPTY = new DeadlineTree(null);
+
+    private final Node root;
+
+    private DeadlineTree(Node root) {
+        this.root = root;
+    }
+
+    private static class Node {
+        private final int id;
+        private final LocalDateTime by;
+        private final Node left;
+        private final Node right;
+
+        private Node(int id, LocalDateTime by, Node left, Node right) {
+            this.id = id;
+            this.by = by;
+            this.left = left;
+            this.right = right;
+        }
+
+        private Node withChildren(Node left, Node right) {
+            return new Node(this.id, this.by, left, right);
+        }
+
+        private boolean isBefore(LocalDateTime otherBy, int otherId) {
+            int comparison = this.by.compareTo(otherBy);
+            return comparison < 0 || (comparison == 0 && this.id < otherId);
+        }
+    }
+
+    /**
+     * Returns a tree without any deadlines.
+     *
+     * @return The empty tree.
+     */
+    static DeadlineTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tree with the given deadline added, leaving this tree as it is.
+     *
+     * @param id Id of the deadline's task, which must not be in the tree.
+     * @param by Due time of the deadline.
+     * @return The tree with the deadline.
+     */
+    DeadlineTree with(int id, LocalDateTime by) {
+        Node[] parts = split(this.root, by, id);
+        return new DeadlineTree(merge(merge(parts[0], new Node(id, by, null, null)), parts[1]));
+    }
+
+    /**
+     * Returns a tree with the given deadline removed, leaving this tree as it is.
+     *
+     * @param id Id of the deadline's task.
+     * @param by Due time the deadline was added with, since it locates the deadline in the tree.
+     * @return The tree without the deadline.
+     */
+    DeadlineTree without(int id, LocalDateTime by) {
+        Node[] parts = split(this.root, by, id);
+        Node[] rest = split(parts[1], by, id + 1);
+        assert rest[0] != null && rest[0].id == id : "Deadline " + id + " is not in the tree";
+        return new DeadlineTree(merge(parts[0], rest[1]));
+    }
+
+    /**
+     * Returns the ids of the deadlines due soonest, by due time.
+     *
+     * @param count Maximum number of ids to return.
+     * @return Ids of at most count deadlines, by due time.
+     */
+    List<Integer> findEarliest(int count) {
+        List<Integer> earliestIds = new ArrayList<>();
+        collectEarliest(this.root, count, earliestIds);
+        return earliestIds;
+    }
+
+    /**
+     * Returns the ids of all deadlines due strictly before the given time, by due time.
+     * Subtrees that start at or after the time are skipped, so this costs O(log n + k) for k matches.
+     *
+     * @param time Time the deadlines must be due before.
+     * @return Ids of the matching deadlines, by due time.
+     */
+    List<Integer> findDueBefore(LocalDateTime time) {
+        List<Integer> dueIds = new ArrayList<>();
+        collectDueBefore(this.root, time, dueIds);
+        return dueIds;
+    }
+
+    private static void collectEarliest(Node node, int count, List<Integer> ids) {
+        if (node == null || ids.size() >= count) {
+            return;
+        }
+        collectEarliest(node.left, count, ids);
+        if (ids.size() < count) {
+            ids.add(node.id);
+            collectEarliest(node.right, count, ids);
+        }
+    }
+
+    private static void collectDueBefore(Node node, LocalDateTime time, List<Integer> ids) {
+        if (node == null) {
+            return;
+        }
+        collectDueBefore(node.left, time, ids);
+        if (!node.by.isBefore(time)) {
+            return; // Every deadline to the right is due even later.
+        }
+        ids.add(node.id);
+        collectDueBefore(node.right, time, ids);
+    }
+
+    // Splits a subtree into the nodes ordered before (by, id) and the rest, copying the nodes on the way.
+    private static Node[] split(Node node, LocalDateTime by, int id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.isBefore(by, id)) {
+            Node[] parts = split(node.right, by, id);
+            return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+        }
+        Node[] parts = split(node.left, by, id);
+        return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+    }
+
+    // Merges two subtrees where every node of the first is ordered before every node of the second.
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (priority(first.id) > priority(second.id)) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    // Derived from the id rather than drawn at random, so that every version of the tree agrees on it.
+    private static int priority(int id) {
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
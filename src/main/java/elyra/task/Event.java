@@ -40,12 +40,28 @@ public class Event extends Task {
         this.endAt = endAt;
     }
 
+    public LocalDateTime getStartAt() {
+        return this.startAt;
+    }
+
+    public LocalDateTime getEndAt() {
+        return this.endAt;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TaskType getType() {
+        return TaskType.EVENT;
+    }
+
     /**
      * @inheritDoc
      */
     @Override
-    public String[] getInfos(DateTimeFormatter timeFormatter) {
-        String[] baseInfo = super.getInfos(timeFormatter);
+    protected String[] formatInfos(DateTimeFormatter timeFormatter) {
+        String[] baseInfo = super.formatInfos(timeFormatter);
         return new String[] {TaskType.EVENT.getStorageCode(), baseInfo[0], baseInfo[1],
                 this.startAt.format(timeFormatter), this.endAt.format(timeFormatter)};
     }
@@ -54,8 +70,8 @@ public class Event extends Task {
      * @inheritDoc
      */
     @Override
-    public String toUiString(DateTimeFormatter timeFormatter) {
-        return TaskType.EVENT.getUiTag() + super.toUiString(timeFormatter)
+    protected String formatUiString(DateTimeFormatter timeFormatter) {
+        return TaskType.EVENT.getUiTag() + super.formatUiString(timeFormatter)
                 + " (from: " + this.startAt.format(timeFormatter) + " to: "
                 + this.endAt.format(timeFormatter) + ")";
     }
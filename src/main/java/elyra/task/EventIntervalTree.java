@@ -0,0 +1,176 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents an interval tree of events, keyed by task id.
+ * Nodes are ordered by start time and balanced as a treap; each node also keeps the latest end time in its subtree,
+ * so whole subtrees that end before a window can be skipped. An overlap query costs O(log n + k) for k matches.
+ * Intervals are half-open, so back-to-back events do not overlap.
+ * The tree is persistent: adding or removing an event returns a new tree that copies only the O(log n) nodes on
+ * the event's path and shares the rest, so several threads can query any version at once.
+ */
+class EventIntervalTree {
+    private static final EventIntervalTree EMPTY = new EventIntervalTree(null);
+
+    private final Node root;
+
+    private EventIntervalTree(Node root) {
+        this.root = root;
+    }
+
+    private static class Node {
+        private final int id;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final LocalDateTime maxEnd;
+        private final Node left;
+        private final Node right;
+
+        private Node(int id, LocalDateTime start, LocalDateTime end, Node left, Node right) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.left = left;
+            this.right = right;
+            LocalDateTime maxEnd = end;
+            if (left != null) {
+                maxEnd = max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = max(maxEnd, right.maxEnd);
+            }
+            this.maxEnd = maxEnd;
+        }
+
+        private Node withChildren(Node left, Node right) {
+            return new Node(this.id, this.start, this.end, left, right);
+        }
+
+        private boolean isBefore(LocalDateTime otherStart, int otherId) {
+            int comparison = this.start.compareTo(otherStart);
+            return comparison < 0 || (comparison == 0 && this.id < otherId);
+        }
+    }
+
+    /**
+     * Returns a tree without any events.
+     *
+     * @return The empty tree.
+     */
+    static EventIntervalTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tree with the given event added, leaving this tree as it is.
+     *
+     * @param id Id of the event's task, which must not be in the tree.
+     * @param event The event to add.
+     * @return The tree with the event.
+     */
+    EventIntervalTree with(int id, Event event) {
+        LocalDateTime[] interval = getInterval(event);
+        Node[] parts = split(this.root, interval[0], id);
+        Node node = new Node(id, interval[0], interval[1], null, null);
+        return new EventIntervalTree(merge(merge(parts[0], node), parts[1]));
+    }
+
+    /**
+     * Returns a tree with the given event removed, leaving this tree as it is.
+     *
+     * @param id Id of the event's task.
+     * @param event The event as it was added, since its start time locates it in the tree.
+     * @return The tree without the event.
+     */
+    EventIntervalTree without(int id, Event event) {
+        LocalDateTime start = getInterval(event)[0];
+        Node[] parts = split(this.root, start, id);
+        Node[] rest = split(parts[1], start, id + 1);
+        assert rest[0] != null && rest[0].id == id : "Event " + id + " is not in the tree";
+        return new EventIntervalTree(merge(parts[0], rest[1]));
+    }
+
+    /**
+     * Returns the ids of all events overlapping the window from (inclusive) to (exclusive), by start time.
+     *
+     * @param from Start of the window.
+     * @param to End of the window.
+     * @return Ids of the overlapping events, ordered by start time.
+     */
+    List<Integer> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Integer> ids = new ArrayList<>();
+        collectOverlapping(this.root, from, to, ids);
+        return ids;
+    }
+
+    /**
+     * Returns the interval covered by the given event.
+     *
+     * @param event The event.
+     * @return Start and end of the event, with the start never after the end.
+     */
+    static LocalDateTime[] getInterval(Event event) {
+        // An event entered with its end before its start still occupies the time between the two.
+        LocalDateTime start = event.getStartAt();
+        LocalDateTime end = event.getEndAt();
+        return new LocalDateTime[] {min(start, end), max(start, end)};
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Integer> ids) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, ids);
+        if (!node.start.isBefore(to)) {
+            return; // Every event to the right starts even later.
+        }
+        if (node.end.isAfter(from)) {
+            ids.add(node.id);
+        }
+        collectOverlapping(node.right, from, to, ids);
+    }
+
+    // Splits a subtree into the nodes ordered before (start, id) and the rest, copying the nodes on the way.
+    private static Node[] split(Node node, LocalDateTime start, int id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.isBefore(start, id)) {
+            Node[] parts = split(node.right, start, id);
+            return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+        }
+        Node[] parts = split(node.left, start, id);
+        return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+    }
+
+    // Merges two subtrees where every node of the first is ordered before every node of the second.
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (priority(first.id) > priority(second.id)) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    // Derived from the id rather than drawn at random, so that every version of the tree agrees on it.
+    private static int priority(int id) {
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? second : first;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
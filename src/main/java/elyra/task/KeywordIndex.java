@@ -0,0 +1,273 @@
+package elyra.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Represents an index of task descriptions by their trigrams (substrings of three characters).
+ * A keyword can only be contained in descriptions that contain all of its trigrams, so a search only verifies
+ * the tasks listed under the keyword's rarest trigram instead of scanning every task.
+ * Tasks are identified by ids that increase in list order, so sorting matches by id keeps the list order.
+ * Each trigram lists its ids in a sorted int array, and descriptions are not copied: they are looked up and
+ * lowercased when a candidate is verified.
+ * The index is never changed once built, so several threads can search it at once; changes make a new index that
+ * shares the id arrays of every trigram they do not touch.
+ */
+class KeywordIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_IDS = new int[0];
+    private static final long[] NO_TRIGRAMS = new long[0];
+
+    private final TrigramTrie idsByTrigram;
+
+    private KeywordIndex(TrigramTrie idsByTrigram) {
+        this.idsByTrigram = idsByTrigram;
+    }
+
+    /**
+     * Returns an index of the descriptions of the given tasks.
+     *
+     * @param ids Ids of the tasks, in increasing order.
+     * @param descriptionsById Description of each task, by id.
+     * @return The index.
+     */
+    static KeywordIndex of(int[] ids, IntFunction<String> descriptionsById) {
+        IdListTable idListsByTrigram = new IdListTable();
+        for (int id : ids) {
+            for (long trigram : getTrigrams(descriptionsById.apply(id).toLowerCase())) {
+                idListsByTrigram.get(trigram).add(id);
+            }
+        }
+        return new KeywordIndex(idListsByTrigram.toTrie());
+    }
+
+    /**
+     * Returns an index in which the given tasks are changed, leaving this index as it is.
+     * Only the trigrams whose tasks changed get new id arrays, and only the paths to them in the TrigramTrie are
+     * copied; everything else is shared with this index. Each changed trigram still costs a merge of its ids.
+     *
+     * @param changedIds Ids of the changed tasks, in increasing order.
+     * @param oldDescriptionsById Description of each changed task in this index, or null if it is not indexed.
+     * @param newDescriptionsById Description of each changed task after the change, or null if it was removed.
+     * @return The changed index.
+     */
+    KeywordIndex withChanges(int[] changedIds, IntFunction<String> oldDescriptionsById,
+            IntFunction<String> newDescriptionsById) {
+        Map<Long, IdList> removedIdsByTrigram = new HashMap<>();
+        Map<Long, IdList> addedIdsByTrigram = new HashMap<>();
+        for (int id : changedIds) {
+            String oldDescription = toLowerCase(oldDescriptionsById.apply(id));
+            String newDescription = toLowerCase(newDescriptionsById.apply(id));
+            if (Objects.equals(oldDescription, newDescription)) {
+                continue;
+            }
+            long[] oldTrigrams = oldDescription == null ? NO_TRIGRAMS : getTrigrams(oldDescription);
+            long[] newTrigrams = newDescription == null ? NO_TRIGRAMS : getTrigrams(newDescription);
+            // Both are sorted, so one pass finds the trigrams only one of them has.
+            int oldIndex = 0;
+            int newIndex = 0;
+            while (oldIndex < oldTrigrams.length || newIndex < newTrigrams.length) {
+                if (newIndex == newTrigrams.length
+                        || oldIndex < oldTrigrams.length && oldTrigrams[oldIndex] < newTrigrams[newIndex]) {
+                    removedIdsByTrigram.computeIfAbsent(oldTrigrams[oldIndex], trigram -> new IdList()).add(id);
+                    oldIndex += 1;
+                } else if (oldIndex == oldTrigrams.length || newTrigrams[newIndex] < oldTrigrams[oldIndex]) {
+                    addedIdsByTrigram.computeIfAbsent(newTrigrams[newIndex], trigram -> new IdList()).add(id);
+                    newIndex += 1;
+                } else {
+                    oldIndex += 1;
+                    newIndex += 1;
+                }
+            }
+        }
+
+        Set<Long> changedTrigrams = new HashSet<>(removedIdsByTrigram.keySet());
+        changedTrigrams.addAll(addedIdsByTrigram.keySet());
+        TrigramTrie idsByTrigram = this.idsByTrigram;
+        for (long trigram : changedTrigrams) {
+            idsByTrigram = idsByTrigram.with(trigram, merge(idsByTrigram.get(trigram),
+                    toArray(removedIdsByTrigram.get(trigram)), toArray(addedIdsByTrigram.get(trigram))));
+        }
+        return new KeywordIndex(idsByTrigram);
+    }
+
+    /**
+     * Returns the ids of all tasks whose description contains the keyword, ignoring case, in increasing order.
+     *
+     * @param keyword The keyword to search for.
+     * @param descriptionsById Description of each indexed task, by id, to verify the candidates with.
+     * @param allIds Sorted ids of every indexed task, asked for only if the keyword is too short to have a trigram.
+     * @return Sorted ids of the matching tasks.
+     */
+    List<Integer> find(String keyword, IntFunction<String> descriptionsById, Supplier<int[]> allIds) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        List<Integer> matchingIds = new ArrayList<>();
+        int[] candidateIds = lowerCaseKeyword.length() < GRAM_LENGTH ? allIds.get() : getCandidateIds(lowerCaseKeyword);
+        for (int id : candidateIds) {
+            if (descriptionsById.apply(id).toLowerCase().contains(lowerCaseKeyword)) {
+                matchingIds.add(id);
+            }
+        }
+        return matchingIds;
+    }
+
+    private int[] getCandidateIds(String lowerCaseKeyword) {
+        int[] rarestIds = null;
+        for (long trigram : getTrigrams(lowerCaseKeyword)) {
+            int[] ids = this.idsByTrigram.get(trigram);
+            if (rarestIds == null || ids.length < rarestIds.length) {
+                rarestIds = ids;
+            }
+        }
+        return rarestIds;
+    }
+
+    private static String toLowerCase(String description) {
+        return description == null ? null : description.toLowerCase();
+    }
+
+    private static int[] toArray(IdList idList) {
+        return idList == null ? NO_IDS : idList.toArray();
+    }
+
+    // Returns the sorted ids without the removed ones and with the added ones, which must all be sorted.
+    private static int[] merge(int[] ids, int[] removedIds, int[] addedIds) {
+        if (removedIds.length == 0 && addedIds.length == 0) {
+            return ids;
+        }
+        int[] mergedIds = new int[ids.length - removedIds.length + addedIds.length];
+        int size = 0;
+        int removedIndex = 0;
+        int addedIndex = 0;
+        for (int id : ids) {
+            if (removedIndex < removedIds.length && removedIds[removedIndex] == id) {
+                removedIndex += 1;
+                continue;
+            }
+            while (addedIndex < addedIds.length && addedIds[addedIndex] < id) {
+                mergedIds[size] = addedIds[addedIndex];
+                size += 1;
+                addedIndex += 1;
+            }
+            mergedIds[size] = id;
+            size += 1;
+        }
+        while (addedIndex < addedIds.length) {
+            mergedIds[size] = addedIds[addedIndex];
+            size += 1;
+            addedIndex += 1;
+        }
+        return mergedIds;
+    }
+
+    // Returns the distinct trigrams of the text, sorted.
+    private static long[] getTrigrams(String text) {
+        int count = Math.max(text.length() - GRAM_LENGTH + 1, 0);
+        long[] trigrams = new long[count];
+        for (int start = 0; start < count; start++) {
+            // Three UTF-16 chars fit in one long, which is cheaper to hash than a substring.
+            trigrams[start] = ((long) text.charAt(start) << 32)
+                    | ((long) text.charAt(start + 1) << 16)
+                    | text.charAt(start + 2);
+        }
+        Arrays.sort(trigrams);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinctCount] = trigrams[i];
+                distinctCount += 1;
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    /**
+     * Represents a growable list of ids, used while the index is built or changed.
+     */
+    private static final class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.size * 2);
+            }
+            this.ids[this.size] = id;
+            this.size += 1;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(this.ids, this.size);
+        }
+    }
+
+    /**
+     * Represents an open-addressing hash table from trigrams to their IdList, used while the index is built.
+     * Every task adds itself to a list per trigram, so keeping the trigrams unboxed here saves most of the build.
+     */
+    private static final class IdListTable {
+        private long[] trigrams = new long[1024];
+        private IdList[] idLists = new IdList[1024];
+        private int size;
+
+        private IdList get(long trigram) {
+            int mask = this.trigrams.length - 1;
+            int slot = Long.hashCode(trigram * 0x9E3779B97F4A7C15L) & mask;
+            while (this.idLists[slot] != null) {
+                if (this.trigrams[slot] == trigram) {
+                    return this.idLists[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            IdList idList = new IdList();
+            this.trigrams[slot] = trigram;
+            this.idLists[slot] = idList;
+            this.size += 1;
+            if (this.size * 2 > this.trigrams.length) {
+                grow();
+            }
+            return idList;
+        }
+
+        private void grow() {
+            long[] oldTrigrams = this.trigrams;
+            IdList[] oldIdLists = this.idLists;
+            this.trigrams = new long[oldTrigrams.length * 2];
+            this.idLists = new IdList[oldIdLists.length * 2];
+            int mask = this.trigrams.length - 1;
+            for (int i = 0; i < oldIdLists.length; i++) {
+                if (oldIdLists[i] == null) {
+                    continue;
+                }
+                int slot = Long.hashCode(oldTrigrams[i] * 0x9E3779B97F4A7C15L) & mask;
+                while (this.idLists[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.trigrams[slot] = oldTrigrams[i];
+                this.idLists[slot] = oldIdLists[i];
+            }
+        }
+
+        private TrigramTrie toTrie() {
+            long[] trigrams = new long[this.size];
+            int[][] idsByPosition = new int[this.size][];
+            int position = 0;
+            for (int i = 0; i < this.idLists.length; i++) {
+                if (this.idLists[i] != null) {
+                    trigrams[position] = this.trigrams[i];
+                    idsByPosition[position] = this.idLists[i].toArray();
+                    position += 1;
+                }
+            }
+            return TrigramTrie.of(trigrams, idsByPosition);
+        }
+    }
+}
@@ -6,11 +6,20 @@ import java.time.format.DateTimeFormatter;
 /**
  * Represents a generic task.
  * A Task object corresponds to a task with a description and completion status.
+ * Its UI and storage representations are cached per formatter until the task changes, so listing a mostly
+ * unchanged list does not format its tasks again.
+ * A TaskList never changes a task it holds, only a copy of it, so a task handed to a reader never changes.
  */
-public abstract class Task {
+public abstract class Task implements Cloneable {
     private String description;
     private boolean isDone;
 
+    // Bumped after every change. A representation rendered while the task changes on another thread is stamped
+    // with the revision read before rendering, so it can never be taken for the representation of the new state.
+    private volatile int revision = 0;
+    private Rendering<String> uiRendering;
+    private Rendering<String[]> storageRendering;
+
     /**
      * Creates a new Task with the specified description.
      * The task is initially marked as not done.
@@ -38,6 +47,15 @@ public abstract class Task {
         return this.description;
     }
 
+    public boolean isDone() {
+        return this.isDone;
+    }
+
+    /**
+     * Returns the type of this task.
+     */
+    public abstract TaskType getType();
+
     /**
      * Sets the completion status of the task.
      *
@@ -45,6 +63,18 @@ public abstract class Task {
      */
     public void setDone(boolean isDone) {
         this.isDone = isDone;
+        markChanged();
+    }
+
+    /**
+     * Returns a copy of the task, which can be changed without changing this one.
+     */
+    public Task copy() {
+        try {
+            return (Task) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError("Unreachable state: Task is Cloneable.", e);
+        }
     }
 
     /**
@@ -53,7 +83,23 @@ public abstract class Task {
      * @param timeFormatter Formatter for date and time fields.
      * @return Array of strings containing task information.
      */
-    public String[] getInfos(DateTimeFormatter timeFormatter) {
+    public final String[] getInfos(DateTimeFormatter timeFormatter) {
+        int currentRevision = this.revision;
+        Rendering<String[]> cached = this.storageRendering;
+        if (cached == null || !cached.isCurrent(currentRevision, timeFormatter)) {
+            cached = new Rendering<>(currentRevision, timeFormatter, formatInfos(timeFormatter));
+            this.storageRendering = cached;
+        }
+        return cached.value().clone();
+    }
+
+    /**
+     * Formats task information as an array of strings for storage serialization, without caching.
+     *
+     * @param timeFormatter Formatter for date and time fields.
+     * @return Array of strings containing task information.
+     */
+    protected String[] formatInfos(DateTimeFormatter timeFormatter) {
         String doneFlag = "1";
         String notDoneFlag = "0";
         return new String[] {(isDone ? doneFlag : notDoneFlag), this.description};
@@ -65,7 +111,23 @@ public abstract class Task {
      * @param timeFormatter Formatter for date and time fields.
      * @return Formatted string for UI display.
      */
-    public String toUiString(DateTimeFormatter timeFormatter) {
+    public final String toUiString(DateTimeFormatter timeFormatter) {
+        int currentRevision = this.revision;
+        Rendering<String> cached = this.uiRendering;
+        if (cached == null || !cached.isCurrent(currentRevision, timeFormatter)) {
+            cached = new Rendering<>(currentRevision, timeFormatter, formatUiString(timeFormatter));
+            this.uiRendering = cached;
+        }
+        return cached.value();
+    }
+
+    /**
+     * Formats a string representation of the task for UI display, without caching.
+     *
+     * @param timeFormatter Formatter for date and time fields.
+     * @return Formatted string for UI display.
+     */
+    protected String formatUiString(DateTimeFormatter timeFormatter) {
         return (isDone ? "[X] " : "[ ] ") + description;
     }
 
@@ -90,6 +152,7 @@ public abstract class Task {
                     + "newDateTimeContent should be non-null.";
             throw new AssertionError(message);
         }
+        markChanged();
     }
 
     protected void updateTextField(String fieldName,
@@ -106,4 +169,23 @@ public abstract class Task {
         throw new UnsupportedOperationException("This task has no date/time fields. "
                 + "You can only update 'description'");
     }
+
+    /**
+     * Invalidates the cached representations of the task.
+     * Called after the fields have changed, so that a representation stamped with the new revision always
+     * reflects them.
+     */
+    private void markChanged() {
+        this.revision += 1; // Only the thread changing tasks writes the revision, so this increment is not lost.
+    }
+
+    /**
+     * Represents a representation of a task, rendered with a formatter at a revision.
+     * Its fields are final, so it can be handed to other threads through a plain field.
+     */
+    private record Rendering<T>(int revision, DateTimeFormatter formatter, T value) {
+        boolean isCurrent(int currentRevision, DateTimeFormatter currentFormatter) {
+            return this.revision == currentRevision && this.formatter == currentFormatter;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package elyra.task;
+
+/**
+ * Represents a single mutation applied to a TaskList.
+ * TaskChange objects are recorded by a TaskList so that storage can persist deltas instead of the whole list.
+ *
+ * @param type Kind of mutation that was applied.
+ * @param index Index of the affected task (1-based) at the time of the mutation.
+ * @param task The affected task for additions and updates, or null otherwise.
+ */
+public record TaskChange(Type type, int index, Task task) {
+    /**
+     * Enum representing the kinds of mutations a TaskList can record.
+     */
+    public enum Type {
+        ADD("+"),
+        DELETE("-"),
+        MARK("M"),
+        UNMARK("U"),
+        UPDATE("~");
+
+        private final String journalCode;
+
+        Type(String journalCode) {
+            this.journalCode = journalCode;
+        }
+
+        public String getJournalCode() {
+            return journalCode;
+        }
+
+        /**
+         * Converts a journal code to its corresponding Type.
+         * @param code Journal code representing a kind of mutation.
+         * @return Corresponding Type.
+         */
+        public static Type fromJournalCode(String code) {
+            for (Type type : values()) {
+                if (type.journalCode.equals(code)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown change type code: " + code);
+        }
+    }
+
+    /**
+     * Constructs a new TaskChange and validates that additions and updates carry their task.
+     */
+    public TaskChange {
+        assert type != null : "TaskChange.type cannot be null";
+        assert index > 0 : "TaskChange.index must be 1-based";
+        assert (type != Type.ADD && type != Type.UPDATE) || task != null
+                : "TaskChange of type " + type + " must carry its task";
+    }
+}
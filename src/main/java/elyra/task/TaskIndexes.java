@@ -0,0 +1,168 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents the indexes of one version of a task list: a KeywordIndex, an EventIntervalTree for events and a
+ * DeadlineTree for undone deadlines, all keyed by task id.
+ * Each index is built on the first query that needs it and never changed afterwards, so later versions of the list
+ * can keep using it for the tasks they did not change, and queries on several threads can read it at once.
+ * A later version gets its own indexes by applying just its changed tasks to the indexes built here.
+ */
+final class TaskIndexes {
+    private final TaskTrie tasks;
+    private final TaskSource source;
+    private final Object buildLock = new Object();
+    // Volatile and only set once complete, so that queries can read them without the lock.
+    private volatile KeywordIndex keywordIndex;
+    private volatile EventIntervalTree eventTree;
+    private volatile DeadlineTree deadlineTree;
+
+    /**
+     * Creates the indexes of the given version of a task list, without building any of them yet.
+     *
+     * @param tasks Tasks of the version, by id.
+     * @param source Source the undecoded tasks come from, or null if there is none.
+     */
+    TaskIndexes(TaskTrie tasks, TaskSource source) {
+        this.tasks = tasks;
+        this.source = source;
+    }
+
+    /**
+     * Returns the indexes of a later version of the list, in which only the given tasks differ from this one.
+     * Each index built already is carried over with just those tasks replaced, sharing the rest of it; the others
+     * are left to be built on their first query.
+     *
+     * @param newTasks Tasks of the later version, by id.
+     * @param changedIds Ids of the tasks that differ, in increasing order.
+     * @return The indexes of the later version.
+     */
+    TaskIndexes withChanges(TaskTrie newTasks, int[] changedIds) {
+        TaskIndexes newIndexes = new TaskIndexes(newTasks, this.source);
+        KeywordIndex keywordIndex = this.keywordIndex;
+        if (keywordIndex != null) {
+            newIndexes.keywordIndex = keywordIndex.withChanges(changedIds, this::findDescription,
+                    newIndexes::findDescription);
+        }
+        EventIntervalTree eventTree = this.eventTree;
+        if (eventTree != null) {
+            for (int id : changedIds) {
+                if (findTask(id) instanceof Event event) {
+                    eventTree = eventTree.without(id, event);
+                }
+                if (newIndexes.findTask(id) instanceof Event event) {
+                    eventTree = eventTree.with(id, event);
+                }
+            }
+            newIndexes.eventTree = eventTree;
+        }
+        DeadlineTree deadlineTree = this.deadlineTree;
+        if (deadlineTree != null) {
+            for (int id : changedIds) {
+                LocalDateTime oldBy = getUndoneDueTime(findTask(id));
+                if (oldBy != null) {
+                    deadlineTree = deadlineTree.without(id, oldBy);
+                }
+                LocalDateTime newBy = getUndoneDueTime(newIndexes.findTask(id));
+                if (newBy != null) {
+                    deadlineTree = deadlineTree.with(id, newBy);
+                }
+            }
+            newIndexes.deadlineTree = deadlineTree;
+        }
+        return newIndexes;
+    }
+
+    /**
+     * Returns the ids of the tasks of this version whose description contains the keyword, ignoring case.
+     *
+     * @param keyword The keyword to search for.
+     * @return Sorted ids of the matching tasks.
+     */
+    List<Integer> findByKeyword(String keyword) {
+        return getKeywordIndex().find(keyword, this::getDescription, this::getLiveIds);
+    }
+
+    private KeywordIndex getKeywordIndex() {
+        KeywordIndex index = this.keywordIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this.buildLock) {
+            if (this.keywordIndex == null) {
+                this.keywordIndex = KeywordIndex.of(getLiveIds(), this::getDescription);
+            }
+            return this.keywordIndex;
+        }
+    }
+
+    EventIntervalTree getEventTree() {
+        EventIntervalTree tree = this.eventTree;
+        if (tree != null) {
+            return tree;
+        }
+        synchronized (this.buildLock) {
+            if (this.eventTree == null) {
+                tree = EventIntervalTree.empty();
+                for (int id = this.tasks.nextLiveId(0); id >= 0; id = this.tasks.nextLiveId(id + 1)) {
+                    if (this.tasks.getTask(id, this.source) instanceof Event event) {
+                        tree = tree.with(id, event);
+                    }
+                }
+                this.eventTree = tree;
+            }
+            return this.eventTree;
+        }
+    }
+
+    DeadlineTree getDeadlineTree() {
+        DeadlineTree tree = this.deadlineTree;
+        if (tree != null) {
+            return tree;
+        }
+        synchronized (this.buildLock) {
+            if (this.deadlineTree == null) {
+                tree = DeadlineTree.empty();
+                for (int id = this.tasks.nextLiveId(0); id >= 0; id = this.tasks.nextLiveId(id + 1)) {
+                    LocalDateTime by = getUndoneDueTime(this.tasks.getTask(id, this.source));
+                    if (by != null) {
+                        tree = tree.with(id, by);
+                    }
+                }
+                this.deadlineTree = tree;
+            }
+            return this.deadlineTree;
+        }
+    }
+
+    private int[] getLiveIds() {
+        int[] liveIds = new int[this.tasks.liveCount()];
+        int position = 0;
+        for (int id = this.tasks.nextLiveId(0); id >= 0; id = this.tasks.nextLiveId(id + 1)) {
+            liveIds[position] = id;
+            position += 1;
+        }
+        return liveIds;
+    }
+
+    private String getDescription(int id) {
+        return this.tasks.getTask(id, this.source).getDescription();
+    }
+
+    // Returns the task with the given id in this version, or null if it has none.
+    private Task findTask(int id) {
+        return this.tasks.isLive(id) ? this.tasks.getTask(id, this.source) : null;
+    }
+
+    private String findDescription(int id) {
+        Task task = findTask(id);
+        return task == null ? null : task.getDescription();
+    }
+
+    // Returns the due time of the task if it is an undone deadline, or null otherwise.
+    private static LocalDateTime getUndoneDueTime(Task task) {
+        return task instanceof Deadline deadline && !deadline.isDone() ? deadline.getBy() : null;
+    }
+}
@@ -1,13 +1,102 @@
 package elyra.task;
 
 import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Represents a list of tasks.
+ * Every mutation is also recorded as a TaskChange until it is drained, so that storage can persist deltas.
+ * Tasks restored from a TaskSource are only decoded when first accessed.
+ * Each task is stored under a stable id that increases in list order, in a persistent TaskTrie that also maps
+ * 1-based indices to ids. Deleting a task only leaves a tombstone, so indexing and deleting take O(log n).
+ * Tasks are never changed in place: a mutation stores a changed copy in a new version of the trie, so a
+ * {@link #snapshot()} of the list is taken in O(1) and never changes, and any number of threads can query it while
+ * the list itself goes on changing.
+ * Tasks are also kept by id in a KeywordIndex, an EventIntervalTree for events and a DeadlineTree for undone
+ * deadlines. The indexes are built lazily for one version of the list and never changed, so each query combines
+ * them with the few tasks changed since that version. Once too many tasks have changed, those tasks are applied to
+ * new versions of the indexes, which share everything else with the old ones.
  */
 public class TaskList {
-    private final ArrayList<Task> tasks = new ArrayList<>();
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final int MAX_CHANGED_IDS = 256;
+    private static final int[] NO_IDS = new int[0];
+
+    private final TaskSource source;
+    private final boolean isSnapshot;
+    private TaskTrie tasks;
+    private TaskIndexes indexes;
+    // Sorted ids of the tasks added, changed or deleted since the version the indexes were made for.
+    private int[] changedIds = NO_IDS;
+    private TaskList snapshot;
+    private ArrayList<TaskChange> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates an empty task list.
+     */
+    public TaskList() {
+        this.source = null;
+        this.isSnapshot = false;
+        resetTasks(TaskTrie.empty());
+    }
+
+    /**
+     * Creates a task list holding the given tasks, without recording them as changes.
+     * Used when restoring tasks that are already persisted.
+     *
+     * @param tasks Tasks to hold, in order.
+     */
+    public TaskList(List<Task> tasks) {
+        assert tasks != null : "TaskList created with null tasks";
+        this.source = null;
+        this.isSnapshot = false;
+        resetTasks(TaskTrie.of(tasks.toArray(new Task[0]), null));
+    }
+
+    /**
+     * Creates a task list holding the tasks of the given source, without decoding or recording them.
+     * Each task is decoded the first time it is accessed.
+     *
+     * @param source Source of the tasks to hold, in order.
+     */
+    public TaskList(TaskSource source) {
+        assert source != null : "TaskList created with null source";
+        this.source = source;
+        this.isSnapshot = false;
+        int[] sourceSlots = new int[source.size()];
+        Arrays.setAll(sourceSlots, slot -> slot);
+        resetTasks(TaskTrie.of(new Task[source.size()], sourceSlots));
+    }
+
+    private TaskList(TaskList list) {
+        this.source = list.source;
+        this.isSnapshot = true;
+        this.tasks = list.tasks;
+        this.indexes = list.indexes;
+        this.changedIds = list.changedIds;
+        this.snapshot = this;
+        this.pendingChanges = null;
+    }
+
+    /**
+     * Returns a read-only copy of the task list as it is now, which later mutations of the list do not change.
+     * The copy shares all its state with the list, so this takes O(1), and it can be queried from any thread.
+     * Calling any mutator of the copy throws an IllegalStateException.
+     *
+     * @return The read-only copy.
+     */
+    public TaskList snapshot() {
+        if (this.snapshot == null) {
+            this.snapshot = new TaskList(this);
+        }
+        return this.snapshot;
+    }
 
     /**
      * Adds a new task to the task list.
@@ -16,7 +105,11 @@ public class TaskList {
      */
     public void addTask(Task task) {
         assert task != null : "Attempted to add null task";
-        this.tasks.add(task);
+        checkNotSnapshot();
+        int id = this.tasks.idCount();
+        this.tasks = this.tasks.withAppended(task);
+        recordChangedId(id);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.ADD, size(), task));
     }
 
     /**
@@ -27,20 +120,53 @@ public class TaskList {
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     public Task getTask(int index) {
-        int size = this.tasks.size();
-        if (index > 0 && index <= size) {
-            return this.tasks.get(index - 1);
-        }
-        if (size == 0) {
-            throw new IndexOutOfBoundsException("Your task list is empty. Add a task first.");
-        }
-        String message = "Task index " + index + " is out of range. Please enter a number between 1 and "
-                + size + ".";
-        throw new IndexOutOfBoundsException(message);
+        return getDecodedTask(getIdAt(index));
+    }
+
+    /**
+     * Returns a read-only view of all tasks, in order.
+     * Tasks not decoded yet are decoded as the view is accessed.
+     */
+    public List<Task> getTasks() {
+        return new AbstractList<>() {
+            @Override
+            public Task get(int position) {
+                return getTask(position + 1);
+            }
+
+            @Override
+            public int size() {
+                return TaskList.this.size();
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                // Walking the live ids directly avoids a lookup by rank per task.
+                return new Iterator<>() {
+                    private final TaskTrie iteratedTasks = tasks;
+                    private int nextId = this.iteratedTasks.nextLiveId(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.nextId >= 0;
+                    }
+
+                    @Override
+                    public Task next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Task task = this.iteratedTasks.getTask(this.nextId, source);
+                        this.nextId = this.iteratedTasks.nextLiveId(this.nextId + 1);
+                        return task;
+                    }
+                };
+            }
+        };
     }
 
-    public ArrayList<Task> getTasks() {
-        return this.tasks;
+    public int size() {
+        return this.tasks.liveCount();
     }
 
     /**
@@ -50,8 +176,12 @@ public class TaskList {
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     public void markTask(int index) {
-        Task currentTask = getTask(index); // To check validity of index
-        currentTask.setDone(true);
+        checkNotSnapshot();
+        int id = getIdAt(index);
+        Task markedTask = getDecodedTask(id).copy();
+        markedTask.setDone(true);
+        storeTask(id, markedTask);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.MARK, index, null));
     }
 
     /**
@@ -61,41 +191,140 @@ public class TaskList {
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     public void unmarkTask(int index) {
-        Task currentTask = getTask(index); // To check validity of index
-        currentTask.setDone(false);
+        checkNotSnapshot();
+        int id = getIdAt(index);
+        Task unmarkedTask = getDecodedTask(id).copy();
+        unmarkedTask.setDone(false);
+        storeTask(id, unmarkedTask);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.UNMARK, index, null));
     }
 
     /**
      * Deletes the task at the specified index and returns it.
+     * The task only leaves a tombstone behind; once tombstones outnumber tasks, the ids are compacted.
      *
      * @param index Index of the task to delete (1-based).
      * @return The deleted task.
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     public Task deleteTask(int index) {
-        Task removedTask = getTask(index); // To check validity of index
-        this.tasks.remove(index - 1);
+        checkNotSnapshot();
+        int id = getIdAt(index);
+        Task removedTask = getDecodedTask(id);
+        this.tasks = this.tasks.withoutTask(id);
+        recordChangedId(id);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.DELETE, index, null));
+        compactIdsIfSparse();
         return removedTask;
     }
 
     /**
-     * Finds and returns a list of tasks that contain the specified keyword in their description.
+     * Finds and returns a list of tasks that contain the specified keyword in their description, ignoring case.
+     * The first search builds the keyword index.
      *
      * @param keyword The keyword to search for.
-     * @return An ArrayList of tasks that contain the keyword.
+     * @return An ArrayList of tasks that contain the keyword, in list order.
      */
     public ArrayList<Task> findTasksByKeyword(String keyword) {
-        ArrayList<Task> matchingTasks = new ArrayList<>();
-        for (Task task : this.tasks) {
-            String lowerCaseTaskDescription = task.getDescription().toLowerCase();
-            String lowerCaseKeyword = keyword.toLowerCase();
-            if (lowerCaseTaskDescription.contains(lowerCaseKeyword)) {
-                matchingTasks.add(task);
+        List<Integer> matchingIds = new ArrayList<>();
+        for (int id : this.indexes.findByKeyword(keyword)) {
+            if (!isChangedId(id)) {
+                matchingIds.add(id);
+            }
+        }
+        String lowerCaseKeyword = keyword.toLowerCase();
+        for (int id : getLiveChangedIds()) {
+            if (getDecodedTask(id).getDescription().toLowerCase().contains(lowerCaseKeyword)) {
+                matchingIds.add(id);
             }
         }
+        matchingIds.sort(null);
+
+        ArrayList<Task> matchingTasks = new ArrayList<>(matchingIds.size());
+        for (int id : matchingIds) {
+            matchingTasks.add(getDecodedTask(id));
+        }
         return matchingTasks;
     }
 
+    /**
+     * Finds and returns the events overlapping the window from (inclusive) to (exclusive).
+     * Events that merely touch the window, ending at its start or starting at its end, are not included.
+     *
+     * @param from Start of the window.
+     * @param to End of the window.
+     * @return An ArrayList of overlapping events, ordered by start time.
+     */
+    public ArrayList<Task> findEventsBetween(LocalDateTime from, LocalDateTime to) {
+        assert from.isBefore(to) : "Time window must end after it starts";
+        ArrayList<Task> events = new ArrayList<>();
+        for (EventInterval interval : findOverlappingEvents(from, to)) {
+            events.add(getDecodedTask(interval.id()));
+        }
+        return events;
+    }
+
+    /**
+     * Finds and returns the spans of the window from (inclusive) to (exclusive) not taken by any event.
+     *
+     * @param from Start of the window.
+     * @param to End of the window.
+     * @return List of free slots, in order.
+     */
+    public List<TimeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to) {
+        assert from.isBefore(to) : "Time window must end after it starts";
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        LocalDateTime freeSince = from;
+        for (EventInterval interval : findOverlappingEvents(from, to)) {
+            if (interval.start().isAfter(freeSince)) {
+                freeSlots.add(new TimeSlot(freeSince, interval.start()));
+            }
+            if (interval.end().isAfter(freeSince)) {
+                freeSince = interval.end();
+            }
+        }
+        if (freeSince.isBefore(to)) {
+            freeSlots.add(new TimeSlot(freeSince, to));
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Finds and returns the undone deadlines due soonest.
+     *
+     * @param count Maximum number of deadlines to return.
+     * @return An ArrayList of at most count undone deadlines, by due time.
+     */
+    public ArrayList<Task> findEarliestDeadlines(int count) {
+        assert count > 0 : "Deadline count must be positive";
+        // Changed tasks may take up some of the earliest places in the tree, so it is asked for that many more.
+        int indexedCount = (int) Math.min((long) count + this.changedIds.length, size());
+        List<Integer> dueIds = getUnchangedIds(this.indexes.getDeadlineTree().findEarliest(indexedCount));
+        for (int id : getLiveChangedIds()) {
+            if (getDecodedTask(id) instanceof Deadline deadline && !deadline.isDone()) {
+                dueIds.add(id);
+            }
+        }
+        return getDeadlinesByDueTime(dueIds, count);
+    }
+
+    /**
+     * Finds and returns the undone deadlines due before the given time.
+     *
+     * @param time Time the deadlines must be due before.
+     * @return An ArrayList of the matching deadlines, by due time.
+     */
+    public ArrayList<Task> findDeadlinesDueBefore(LocalDateTime time) {
+        List<Integer> dueIds = getUnchangedIds(this.indexes.getDeadlineTree().findDueBefore(time));
+        for (int id : getLiveChangedIds()) {
+            if (getDecodedTask(id) instanceof Deadline deadline && !deadline.isDone()
+                    && deadline.getBy().isBefore(time)) {
+                dueIds.add(id);
+            }
+        }
+        return getDeadlinesByDueTime(dueIds, dueIds.size());
+    }
+
     /**
      * Updates a specific field of the task at the specified index.
      *
@@ -106,7 +335,174 @@ public class TaskList {
      * @throws IndexOutOfBoundsException If the index is out of bounds.
      */
     public void updateTask(int index, String fieldName, String nextTextContent, LocalDateTime newDateTimeContent) {
-        Task currentTask = getTask(index); // To check validity of index
-        currentTask.updateField(fieldName, nextTextContent, newDateTimeContent);
+        checkNotSnapshot();
+        int id = getIdAt(index);
+        Task updatedTask = getDecodedTask(id).copy();
+        updatedTask.updateField(fieldName, nextTextContent, newDateTimeContent);
+        storeTask(id, updatedTask);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.UPDATE, index, updatedTask));
+    }
+
+    /**
+     * Replaces the task at the specified index with another task.
+     *
+     * @param index Index of the task to replace (1-based).
+     * @param task The task to put at the specified index.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    public void replaceTask(int index, Task task) {
+        assert task != null : "Attempted to replace with null task";
+        checkNotSnapshot();
+        storeTask(getIdAt(index), task);
+        this.pendingChanges.add(new TaskChange(TaskChange.Type.UPDATE, index, task));
+    }
+
+    /**
+     * Returns all changes recorded since the last drain, in the order they were applied, and clears them.
+     *
+     * @return List of recorded changes.
+     */
+    public List<TaskChange> drainChanges() {
+        checkNotSnapshot();
+        List<TaskChange> drainedChanges = this.pendingChanges;
+        this.pendingChanges = new ArrayList<>();
+        return drainedChanges;
+    }
+
+    /**
+     * Discards all changes recorded since the last drain.
+     * Used when the current state is already fully persisted, e.g. right after loading or a full save.
+     */
+    public void discardChanges() {
+        checkNotSnapshot();
+        this.pendingChanges = new ArrayList<>();
+    }
+
+    private void checkNotSnapshot() {
+        if (this.isSnapshot) {
+            // Not an UnsupportedOperationException, which would be reported to the user as a mistake of theirs.
+            throw new IllegalStateException("A snapshot of a task list cannot be changed.");
+        }
+    }
+
+    private void storeTask(int id, Task task) {
+        this.tasks = this.tasks.withTask(id, task);
+        recordChangedId(id);
+    }
+
+    private void recordChangedId(int id) {
+        this.snapshot = null;
+        int position = Arrays.binarySearch(this.changedIds, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertionPoint = -position - 1;
+        int[] changedIds = new int[this.changedIds.length + 1];
+        System.arraycopy(this.changedIds, 0, changedIds, 0, insertionPoint);
+        changedIds[insertionPoint] = id;
+        System.arraycopy(this.changedIds, insertionPoint, changedIds, insertionPoint + 1,
+                this.changedIds.length - insertionPoint);
+        // A new array rather than a changed one, since a snapshot may still be reading the old one.
+        this.changedIds = changedIds;
+        if (changedIds.length > MAX_CHANGED_IDS) {
+            // Checking every changed task on each query now costs more than moving them into new indexes.
+            this.indexes = this.indexes.withChanges(this.tasks, changedIds);
+            this.changedIds = NO_IDS;
+        }
+    }
+
+    private void resetTasks(TaskTrie tasks) {
+        this.tasks = tasks;
+        this.indexes = new TaskIndexes(tasks, this.source);
+        this.changedIds = NO_IDS;
+        this.snapshot = null;
+    }
+
+    private void compactIdsIfSparse() {
+        int tombstoneCount = this.tasks.idCount() - size();
+        if (tombstoneCount < Math.max(size(), MIN_TOMBSTONES_TO_COMPACT)) {
+            return;
+        }
+        // The indexes are keyed by the old ids, so they are built again on their next query.
+        resetTasks(this.tasks.compacted());
+    }
+
+    private boolean isChangedId(int id) {
+        return Arrays.binarySearch(this.changedIds, id) >= 0;
+    }
+
+    private List<Integer> getLiveChangedIds() {
+        List<Integer> liveIds = new ArrayList<>(this.changedIds.length);
+        for (int id : this.changedIds) {
+            if (this.tasks.isLive(id)) {
+                liveIds.add(id);
+            }
+        }
+        return liveIds;
+    }
+
+    private List<Integer> getUnchangedIds(List<Integer> ids) {
+        List<Integer> unchangedIds = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            if (!isChangedId(id)) {
+                unchangedIds.add(id);
+            }
+        }
+        return unchangedIds;
+    }
+
+    private List<EventInterval> findOverlappingEvents(LocalDateTime from, LocalDateTime to) {
+        List<EventInterval> intervals = new ArrayList<>();
+        for (int id : getUnchangedIds(this.indexes.getEventTree().findOverlapping(from, to))) {
+            LocalDateTime[] interval = EventIntervalTree.getInterval((Event) getDecodedTask(id));
+            intervals.add(new EventInterval(id, interval[0], interval[1]));
+        }
+        for (int id : getLiveChangedIds()) {
+            if (getDecodedTask(id) instanceof Event event) {
+                LocalDateTime[] interval = EventIntervalTree.getInterval(event);
+                if (interval[0].isBefore(to) && interval[1].isAfter(from)) {
+                    intervals.add(new EventInterval(id, interval[0], interval[1]));
+                }
+            }
+        }
+        intervals.sort(Comparator.comparing(EventInterval::start).thenComparingInt(EventInterval::id));
+        return intervals;
+    }
+
+    private ArrayList<Task> getDeadlinesByDueTime(List<Integer> ids, int count) {
+        ids.sort(null);
+        ArrayList<Task> deadlines = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            deadlines.add(getDecodedTask(id));
+        }
+        // The sort is stable, so deadlines due at the same time stay in list order.
+        deadlines.sort(Comparator.comparing(task -> ((Deadline) task).getBy()));
+        if (deadlines.size() > count) {
+            deadlines.subList(count, deadlines.size()).clear();
+        }
+        return deadlines;
+    }
+
+    private int getIdAt(int index) {
+        int size = size();
+        if (index > 0 && index <= size) {
+            return this.tasks.findByRank(index);
+        }
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Your task list is empty. Add a task first.");
+        }
+        String message = "Task index " + index + " is out of range. Please enter a number between 1 and "
+                + size + ".";
+        throw new IndexOutOfBoundsException(message);
+    }
+
+    private Task getDecodedTask(int id) {
+        return this.tasks.getTask(id, this.source);
+    }
+
+    /**
+     * Represents the time taken by an event, with the start never after the end.
+     */
+    private record EventInterval(int id, LocalDateTime start, LocalDateTime end) {
     }
 }
@@ -0,0 +1,20 @@
+package elyra.task;
+
+/**
+ * Represents persisted tasks that can be decoded one at a time.
+ * A TaskList backed by a TaskSource only decodes a task the first time it is accessed.
+ */
+public interface TaskSource {
+    /**
+     * Returns the number of tasks in this source.
+     */
+    public int size();
+
+    /**
+     * Decodes the task stored at the given slot.
+     *
+     * @param slot Position of the task in this source (0-based).
+     * @return The decoded task.
+     */
+    public Task decode(int slot);
+}
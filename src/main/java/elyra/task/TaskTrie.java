@@ -0,0 +1,337 @@
+package elyra.task;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Represents an immutable array of task slots indexed by id, stored as a persistent 32-way trie.
+ * Changing a slot only copies the nodes on its path, so every version shares all other nodes with the version it
+ * was made from, and a version can be read by any number of threads while later versions are made.
+ * A slot is live until its task is deleted. Each branch counts the live slots under each of its children, so the
+ * slot holding the k-th live task is found in O(log n), like the Fenwick tree this replaces.
+ * A live slot may hold no task yet, only where to decode it from; the first read decodes it and caches it in place,
+ * which is the only write ever made to a shared node.
+ */
+final class TaskTrie {
+    static final int NOT_FROM_SOURCE = -1;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final VarHandle TASKS = MethodHandles.arrayElementVarHandle(Task[].class);
+    private static final TaskTrie EMPTY = new TaskTrie(new Leaf(new Task[WIDTH], null, 0), 0, 0, 0);
+
+    private final Node root;
+    private final int shift;
+    private final int idCount;
+    private final int liveCount;
+
+    private abstract static class Node {
+        abstract int liveCount();
+    }
+
+    private static final class Leaf extends Node {
+        // Read and written through TASKS, since a task decoded by one thread may be read by another.
+        private final Task[] tasks;
+        private final int[] sourceSlots; // Null if no slot of this leaf has ever been decoded from the source.
+        private final int liveBits;
+
+        private Leaf(Task[] tasks, int[] sourceSlots, int liveBits) {
+            this.tasks = tasks;
+            this.sourceSlots = sourceSlots;
+            this.liveBits = liveBits;
+        }
+
+        @Override
+        int liveCount() {
+            return Integer.bitCount(this.liveBits);
+        }
+
+        private Task[] copyTasks() {
+            Task[] copy = new Task[WIDTH];
+            for (int i = 0; i < WIDTH; i++) {
+                copy[i] = (Task) TASKS.getAcquire(this.tasks, i);
+            }
+            return copy;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        private final int[] liveCounts;
+        private final int liveCount;
+
+        private Branch(Node[] children, int[] liveCounts) {
+            this.children = children;
+            this.liveCounts = liveCounts;
+            this.liveCount = Arrays.stream(liveCounts).sum();
+        }
+
+        @Override
+        int liveCount() {
+            return this.liveCount;
+        }
+
+        private Branch with(int childIndex, Node child) {
+            Node[] children = this.children.clone();
+            int[] liveCounts = this.liveCounts.clone();
+            children[childIndex] = child;
+            liveCounts[childIndex] = child == null ? 0 : child.liveCount();
+            return new Branch(children, liveCounts);
+        }
+    }
+
+    private TaskTrie(Node root, int shift, int idCount, int liveCount) {
+        this.root = root;
+        this.shift = shift;
+        this.idCount = idCount;
+        this.liveCount = liveCount;
+    }
+
+    /**
+     * Returns a trie without any slot.
+     */
+    static TaskTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a trie holding one live slot for each given task, in order, built in O(n).
+     *
+     * @param tasks Task of each slot, or null for one to decode from the source.
+     * @param sourceSlots Where each slot without a task is decoded from, or null if every slot holds a task.
+     * @return The trie.
+     */
+    static TaskTrie of(Task[] tasks, int[] sourceSlots) {
+        assert sourceSlots == null || sourceSlots.length == tasks.length : "Every task needs a source slot";
+        if (tasks.length == 0) {
+            return EMPTY;
+        }
+        Node[] level = new Node[(tasks.length + MASK) >>> BITS];
+        for (int i = 0; i < level.length; i++) {
+            int from = i << BITS;
+            int to = Math.min(tasks.length, from + WIDTH);
+            int[] leafSlots = sourceSlots == null ? null : Arrays.copyOfRange(sourceSlots, from, from + WIDTH);
+            int liveBits = to - from == WIDTH ? -1 : (1 << (to - from)) - 1;
+            level[i] = new Leaf(Arrays.copyOfRange(tasks, from, from + WIDTH), leafSlots, liveBits);
+        }
+        int shift = 0;
+        while (level.length > 1) {
+            Node[] parents = new Node[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                Node[] children = Arrays.copyOfRange(level, i << BITS, (i << BITS) + WIDTH);
+                int[] liveCounts = new int[WIDTH];
+                for (int j = 0; j < WIDTH && children[j] != null; j++) {
+                    liveCounts[j] = children[j].liveCount();
+                }
+                parents[i] = new Branch(children, liveCounts);
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new TaskTrie(level[0], shift, tasks.length, tasks.length);
+    }
+
+    /**
+     * Returns the number of slots, live or not.
+     */
+    int idCount() {
+        return this.idCount;
+    }
+
+    /**
+     * Returns the number of live slots.
+     */
+    int liveCount() {
+        return this.liveCount;
+    }
+
+    /**
+     * Returns whether the slot with the given id holds a task that was not deleted.
+     *
+     * @param id Id of the slot.
+     * @return True if the slot is live.
+     */
+    boolean isLive(int id) {
+        return id >= 0 && id < this.idCount && (findLeaf(id).liveBits & (1 << (id & MASK))) != 0;
+    }
+
+    /**
+     * Returns the task of a live slot, decoding it from the given source the first time it is read.
+     *
+     * @param id Id of the slot.
+     * @param source Source the trie's undecoded tasks come from.
+     * @return The task.
+     */
+    Task getTask(int id, TaskSource source) {
+        assert isLive(id) : "Task " + id + " was deleted";
+        Leaf leaf = findLeaf(id);
+        int offset = id & MASK;
+        Task task = (Task) TASKS.getAcquire(leaf.tasks, offset);
+        if (task != null) {
+            return task;
+        }
+        assert leaf.sourceSlots != null && leaf.sourceSlots[offset] != NOT_FROM_SOURCE
+                : "Undecoded task has no source slot";
+        Task decodedTask = source.decode(leaf.sourceSlots[offset]);
+        // Another thread may have decoded it meanwhile; keeping the first keeps every reader on the same object.
+        Task cachedTask = (Task) TASKS.compareAndExchange(leaf.tasks, offset, null, decodedTask);
+        return cachedTask == null ? decodedTask : cachedTask;
+    }
+
+    /**
+     * Returns the id of the slot holding the live task of the given rank.
+     *
+     * @param rank Rank of the task among the live ones (1-based).
+     * @return Id of its slot.
+     */
+    int findByRank(int rank) {
+        assert rank >= 1 && rank <= this.liveCount : "Rank " + rank + " is out of range";
+        Node node = this.root;
+        int id = 0;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            Branch branch = (Branch) node;
+            int childIndex = 0;
+            while (rank > branch.liveCounts[childIndex]) {
+                rank -= branch.liveCounts[childIndex];
+                childIndex += 1;
+            }
+            id |= childIndex << level;
+            node = branch.children[childIndex];
+        }
+        int liveBits = ((Leaf) node).liveBits;
+        for (int i = 1; i < rank; i++) {
+            liveBits &= liveBits - 1; // Drops the lowest live slot.
+        }
+        return id | Integer.numberOfTrailingZeros(liveBits);
+    }
+
+    /**
+     * Returns the id of the first live slot at or after the given id, like BitSet.nextSetBit.
+     *
+     * @param fromId Id to start looking from.
+     * @return Id of the live slot, or -1 if there is none.
+     */
+    int nextLiveId(int fromId) {
+        if (fromId >= this.idCount) {
+            return -1;
+        }
+        return nextLiveId(this.root, this.shift, 0, Math.max(fromId, 0));
+    }
+
+    /**
+     * Returns a trie with a live slot holding the given task appended.
+     *
+     * @param task Task of the new slot.
+     * @return The new version of the trie.
+     */
+    TaskTrie withAppended(Task task) {
+        int id = this.idCount;
+        Node root = this.root;
+        int shift = this.shift;
+        if (id == WIDTH << shift) {
+            // The trie is full, so it becomes the first child of a new root.
+            Node[] children = new Node[WIDTH];
+            int[] liveCounts = new int[WIDTH];
+            children[0] = root;
+            liveCounts[0] = this.liveCount;
+            root = new Branch(children, liveCounts);
+            shift += BITS;
+        }
+        return new TaskTrie(withSlot(root, shift, id, task, true), shift, id + 1, this.liveCount + 1);
+    }
+
+    /**
+     * Returns a trie where a live slot holds the given task instead.
+     *
+     * @param id Id of the slot.
+     * @param task Task to hold.
+     * @return The new version of the trie.
+     */
+    TaskTrie withTask(int id, Task task) {
+        assert isLive(id) : "Task " + id + " was deleted";
+        return new TaskTrie(withSlot(this.root, this.shift, id, task, true), this.shift, this.idCount, this.liveCount);
+    }
+
+    /**
+     * Returns a trie where a live slot is no longer live.
+     *
+     * @param id Id of the slot.
+     * @return The new version of the trie.
+     */
+    TaskTrie withoutTask(int id) {
+        assert isLive(id) : "Task " + id + " was deleted";
+        return new TaskTrie(withSlot(this.root, this.shift, id, null, false), this.shift, this.idCount,
+                this.liveCount - 1);
+    }
+
+    /**
+     * Returns a trie holding only the live slots, with new ids in the same order.
+     *
+     * @return The compacted trie.
+     */
+    TaskTrie compacted() {
+        Task[] tasks = new Task[this.liveCount];
+        int[] sourceSlots = null;
+        int newId = 0;
+        for (int id = nextLiveId(0); id >= 0; id = nextLiveId(id + 1)) {
+            Leaf leaf = findLeaf(id);
+            tasks[newId] = (Task) TASKS.getAcquire(leaf.tasks, id & MASK);
+            if (leaf.sourceSlots != null) {
+                if (sourceSlots == null) {
+                    sourceSlots = new int[this.liveCount];
+                    Arrays.fill(sourceSlots, NOT_FROM_SOURCE);
+                }
+                sourceSlots[newId] = leaf.sourceSlots[id & MASK];
+            }
+            newId += 1;
+        }
+        return of(tasks, sourceSlots);
+    }
+
+    private Leaf findLeaf(int id) {
+        Node node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = ((Branch) node).children[(id >>> level) & MASK];
+        }
+        return (Leaf) node;
+    }
+
+    private static int nextLiveId(Node node, int level, int baseId, int fromId) {
+        if (level == 0) {
+            int fromOffset = Math.max(fromId - baseId, 0);
+            int liveBits = fromOffset == WIDTH ? 0 : ((Leaf) node).liveBits & (-1 << fromOffset);
+            return liveBits == 0 ? -1 : baseId | Integer.numberOfTrailingZeros(liveBits);
+        }
+        Branch branch = (Branch) node;
+        int firstChild = Math.max(fromId - baseId, 0) >>> level;
+        for (int childIndex = firstChild; childIndex < WIDTH && branch.children[childIndex] != null; childIndex++) {
+            if (branch.liveCounts[childIndex] == 0) {
+                continue;
+            }
+            int id = nextLiveId(branch.children[childIndex], level - BITS, baseId | (childIndex << level), fromId);
+            if (id >= 0) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private static Node withSlot(Node node, int level, int id, Task task, boolean isLive) {
+        int childIndex = (id >>> level) & MASK;
+        if (level == 0) {
+            Leaf leaf = (Leaf) node;
+            Task[] tasks = leaf == null ? new Task[WIDTH] : leaf.copyTasks();
+            int[] sourceSlots = leaf == null || leaf.sourceSlots == null ? null : leaf.sourceSlots.clone();
+            int liveBits = leaf == null ? 0 : leaf.liveBits;
+            tasks[childIndex] = task;
+            if (sourceSlots != null) {
+                sourceSlots[childIndex] = NOT_FROM_SOURCE;
+            }
+            liveBits = isLive ? liveBits | (1 << childIndex) : liveBits & ~(1 << childIndex);
+            return new Leaf(tasks, sourceSlots, liveBits);
+        }
+        Branch branch = node == null ? new Branch(new Node[WIDTH], new int[WIDTH]) : (Branch) node;
+        return branch.with(childIndex, withSlot(branch.children[childIndex], level - BITS, id, task, isLive));
+    }
+}
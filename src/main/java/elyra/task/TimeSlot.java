@@ -0,0 +1,19 @@
+package elyra.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a span of time not taken by any event.
+ *
+ * @param start Start of the span.
+ * @param end End of the span.
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {
+    /**
+     * Constructs a new TimeSlot and validates that it is not empty.
+     */
+    public TimeSlot {
+        assert start != null && end != null : "TimeSlot bounds cannot be null";
+        assert start.isBefore(end) : "TimeSlot must end after it starts";
+    }
+}
@@ -30,8 +30,16 @@ public class ToDo extends Task {
      * @inheritDoc
      */
     @Override
-    public String[] getInfos(DateTimeFormatter timeFormatter) {
-        String[] baseInfo = super.getInfos(timeFormatter);
+    public TaskType getType() {
+        return TaskType.TODO;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected String[] formatInfos(DateTimeFormatter timeFormatter) {
+        String[] baseInfo = super.formatInfos(timeFormatter);
         return new String[] {TaskType.TODO.getStorageCode(), baseInfo[0], baseInfo[1]};
     }
 
@@ -39,7 +47,7 @@ public class ToDo extends Task {
      * @inheritDoc
      */
     @Override
-    public String toUiString(DateTimeFormatter timeFormatter) {
-        return TaskType.TODO.getUiTag() + super.toUiString(timeFormatter);
+    protected String formatUiString(DateTimeFormatter timeFormatter) {
+        return TaskType.TODO.getUiTag() + super.formatUiString(timeFormatter);
     }
 }
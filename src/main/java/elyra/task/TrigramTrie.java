@@ -0,0 +1,182 @@
+package elyra.task;
+
+/**
+ * Represents an immutable map from trigrams to the sorted ids of the tasks containing them, stored as a persistent
+ * 32-way hash trie.
+ * Each level of the trie takes the next 5 bits of the trigram's hash, and a branch only holds its present children,
+ * so a map of t trigrams is O(log t) deep. Changing a trigram only copies the branches on its path, so every version
+ * shares all other nodes with the version it was made from, and a version can be read by any number of threads
+ * while later versions are made.
+ */
+final class TrigramTrie {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int[] NO_IDS = new int[0];
+    private static final TrigramTrie EMPTY = new TrigramTrie(new Branch(0, new Object[0]));
+
+    private final Branch root;
+
+    private static final class Entry {
+        private final long trigram;
+        private final int[] ids;
+
+        private Entry(long trigram, int[] ids) {
+            this.trigram = trigram;
+            this.ids = ids;
+        }
+    }
+
+    private static final class Branch {
+        // Bit i is set if the child for the 5-bit chunk i is present; children holds Entry and Branch nodes.
+        private final int bitmap;
+        private final Object[] children;
+
+        private Branch(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private int position(int chunk) {
+            return Integer.bitCount(this.bitmap & ((1 << chunk) - 1));
+        }
+
+        private Branch withChild(int chunk, Object child) {
+            int position = position(chunk);
+            if ((this.bitmap & (1 << chunk)) != 0) {
+                Object[] children = this.children.clone();
+                children[position] = child;
+                return new Branch(this.bitmap, children);
+            }
+            Object[] children = new Object[this.children.length + 1];
+            System.arraycopy(this.children, 0, children, 0, position);
+            children[position] = child;
+            System.arraycopy(this.children, position, children, position + 1, this.children.length - position);
+            return new Branch(this.bitmap | (1 << chunk), children);
+        }
+
+        private Branch withoutChild(int chunk) {
+            int position = position(chunk);
+            Object[] children = new Object[this.children.length - 1];
+            System.arraycopy(this.children, 0, children, 0, position);
+            System.arraycopy(this.children, position + 1, children, position, children.length - position);
+            return new Branch(this.bitmap & ~(1 << chunk), children);
+        }
+    }
+
+    private TrigramTrie(Branch root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a map of the given trigrams, built in O(t log t).
+     *
+     * @param trigrams Distinct trigrams.
+     * @param idsByPosition Sorted, non-empty ids of each trigram, at the same position.
+     * @return The map.
+     */
+    static TrigramTrie of(long[] trigrams, int[][] idsByPosition) {
+        assert trigrams.length == idsByPosition.length : "Every trigram needs its ids";
+        Entry[] entries = new Entry[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            entries[i] = new Entry(trigrams[i], idsByPosition[i]);
+        }
+        return new TrigramTrie(build(entries, 0));
+    }
+
+    /**
+     * Returns the sorted ids of the tasks containing the trigram, or an empty array if there are none.
+     */
+    int[] get(long trigram) {
+        long hash = hash(trigram);
+        Branch branch = this.root;
+        for (int level = 0; ; level++) {
+            int chunk = chunk(hash, level);
+            if ((branch.bitmap & (1 << chunk)) == 0) {
+                return NO_IDS;
+            }
+            Object child = branch.children[branch.position(chunk)];
+            if (child instanceof Entry entry) {
+                return entry.trigram == trigram ? entry.ids : NO_IDS;
+            }
+            branch = (Branch) child;
+        }
+    }
+
+    /**
+     * Returns a map in which the trigram has the given ids, leaving this map as it is.
+     *
+     * @param trigram The trigram.
+     * @param ids Sorted ids of the tasks containing it, or an empty array to remove it.
+     * @return The changed map.
+     */
+    TrigramTrie with(long trigram, int[] ids) {
+        Branch root = with(this.root, 0, hash(trigram), trigram, ids);
+        return root == null ? EMPTY : new TrigramTrie(root);
+    }
+
+    // Returns the branch with the trigram changed, or null if it is left without children.
+    private static Branch with(Branch branch, int level, long hash, long trigram, int[] ids) {
+        int chunk = chunk(hash, level);
+        if ((branch.bitmap & (1 << chunk)) == 0) {
+            return ids.length == 0 ? branch : branch.withChild(chunk, new Entry(trigram, ids));
+        }
+        Object child = branch.children[branch.position(chunk)];
+        Object newChild;
+        if (child instanceof Entry entry && entry.trigram == trigram) {
+            newChild = ids.length == 0 ? null : new Entry(trigram, ids);
+        } else if (child instanceof Entry entry) {
+            if (ids.length == 0) {
+                return branch;
+            }
+            // Both trigrams share the chunks so far, so they are told apart by the following ones.
+            Branch pushedDown = new Branch(1 << chunk(hash(entry.trigram), level + 1), new Object[] {entry});
+            newChild = with(pushedDown, level + 1, hash, trigram, ids);
+        } else {
+            newChild = with((Branch) child, level + 1, hash, trigram, ids);
+        }
+        if (newChild == null) {
+            return branch.children.length == 1 ? null : branch.withoutChild(chunk);
+        }
+        return branch.withChild(chunk, newChild);
+    }
+
+    private static Branch build(Entry[] entries, int level) {
+        int[] counts = new int[MASK + 1];
+        for (Entry entry : entries) {
+            counts[chunk(hash(entry.trigram), level)] += 1;
+        }
+        Entry[][] buckets = new Entry[MASK + 1][];
+        int bitmap = 0;
+        for (int chunk = 0; chunk <= MASK; chunk++) {
+            if (counts[chunk] > 0) {
+                buckets[chunk] = new Entry[counts[chunk]];
+                bitmap |= 1 << chunk;
+                counts[chunk] = 0;
+            }
+        }
+        for (Entry entry : entries) {
+            int chunk = chunk(hash(entry.trigram), level);
+            buckets[chunk][counts[chunk]] = entry;
+            counts[chunk] += 1;
+        }
+        Object[] children = new Object[Integer.bitCount(bitmap)];
+        int position = 0;
+        for (Entry[] bucket : buckets) {
+            if (bucket != null) {
+                children[position] = bucket.length == 1 ? bucket[0] : build(bucket, level + 1);
+                position += 1;
+            }
+        }
+        return new Branch(bitmap, children);
+    }
+
+    // Multiplying by an odd constant is a bijection, so distinct trigrams always differ in some chunk of their hash.
+    private static long hash(long trigram) {
+        return trigram * 0x9E3779B97F4A7C15L;
+    }
+
+    // Takes the chunks from the top of the hash, where the multiplication mixes best; 13 levels cover all 64 bits.
+    private static int chunk(long hash, int level) {
+        return (int) Long.rotateLeft(hash, BITS * (level + 1)) & MASK;
+    }
+}
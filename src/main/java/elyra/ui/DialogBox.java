@@ -1,69 +1,129 @@
 package elyra.ui;
 
-import java.io.IOException;
-import java.util.Collections;
-
+import elyra.task.Task;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * Its nodes are built in code rather than loaded from FXML, and a dialog box without a listing can be shown again
+ * with another message, so that a long conversation does not parse FXML or create nodes for every message.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final String STYLESHEET = DialogBox.class.getResource("/css/dialog-box.css").toExternalForm();
+    private static final String REPLY_STYLE_CLASS = "reply-label";
+    private static final double PICTURE_SIZE = 99.0;
+    private static final double LISTING_ROW_HEIGHT = 24.0;
+    private static final int MAX_LISTING_ROWS_SHOWN = 12;
 
-    private DialogBox(String text, Image img) {
-        try {
-            assert MainWindow.class.getResource("/view/DialogBox.fxml") != null
-                    : "Missing FXML resource: /view/DialogBox.fxml";
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+    private boolean hasListing = false;
+
+    private DialogBox() {
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        dialog.setPadding(new Insets(6.0));
+        HBox.setMargin(dialog, new Insets(0.0, 7.0, 0.0, 7.0));
 
-        assert dialog != null : "dialog Label not injected";
-        assert displayPicture != null : "displayPicture ImageView not injected";
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPreserveRatio(true);
+        displayPicture.setPickOnBounds(true);
+
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setPadding(new Insets(15.0, 5.0, 15.0, 5.0));
+        getStylesheets().add(STYLESHEET);
+        getChildren().addAll(dialog, displayPicture);
+    }
 
+    /**
+     * Shows the given message in this dialog box, on the user's side or on Elyra's side.
+     * Elyra's side has the ImageView on the left and text on the right.
+     *
+     * @param text Message to show.
+     * @param img Picture of the speaker.
+     * @param isReply Whether the message is Elyra's.
+     */
+    void show(String text, Image img, boolean isReply) {
+        assert !hasListing : "A dialog box with a listing cannot show another message";
         dialog.setText(text);
         displayPicture.setImage(img);
+        dialog.getStyleClass().remove(REPLY_STYLE_CLASS);
+        if (isReply) {
+            getChildren().setAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+            dialog.getStyleClass().add(REPLY_STYLE_CLASS);
+        } else {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+        }
+        setVisible(true);
+        setManaged(true);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Returns whether this dialog box can be shown again with another message.
+     * A dialog box with a listing holds its ListView, so it is not reused.
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-        dialog.getStyleClass().add("reply-label");
+    boolean isRecyclable() {
+        return !hasListing;
+    }
+
+    /**
+     * Shows the rows of a listing under the dialog text, in a ListView that only lays out the visible rows.
+     */
+    private void addListing(TaskListing listing) {
+        ListView<Task> rows = new ListView<>(FXCollections.observableList(listing.getTasks()));
+        rows.setCellFactory(view -> new TaskListingCell(listing));
+        rows.setFixedCellSize(LISTING_ROW_HEIGHT);
+        rows.setPrefHeight(Math.min(listing.size(), MAX_LISTING_ROWS_SHOWN) * LISTING_ROW_HEIGHT + 2);
+        rows.setFocusTraversable(false);
+        rows.getStyleClass().add("task-listing");
+
+        int dialogIndex = getChildren().indexOf(dialog);
+        VBox content = new VBox(dialog, rows);
+        content.setMaxWidth(Double.MAX_VALUE);
+        HBox.setMargin(content, HBox.getMargin(dialog));
+        HBox.setHgrow(content, Priority.ALWAYS);
+        getChildren().add(dialogIndex, content);
+        hasListing = true;
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
+        DialogBox db = new DialogBox();
+        db.show(text, img, false);
+        return db;
     }
 
     /**
      * Creates a dialog box for Elyra's responses with the image on the left.
      */
     public static DialogBox getElyraDialog(String text, Image img) {
-        DialogBox db = new DialogBox(text, img);
-        db.flip();
+        DialogBox db = new DialogBox();
+        db.show(text, img, true);
+        return db;
+    }
+
+    /**
+     * Creates a dialog box for Elyra's responses that list tasks, with the image on the left.
+     */
+    public static DialogBox getElyraListingDialog(TaskListing listing, Image img) {
+        DialogBox db = new DialogBox();
+        db.show(listing.getHeader(), img, true);
+        db.addListing(listing);
         return db;
     }
 }
@@ -0,0 +1,127 @@
+package elyra.ui;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
+
+/**
+ * Represents the conversation shown in the main window, capped at the most recent {@value #MAX_DIALOGS} dialog boxes.
+ * Dialog boxes scrolled out of the history are kept in a small pool and shown again with new messages, so that a
+ * long session neither grows the scene graph nor keeps creating nodes.
+ * Only used on the FX application thread.
+ */
+class DialogHistory {
+    static final int MAX_DIALOGS = 200;
+    private static final int MAX_POOLED_DIALOGS = 16;
+
+    private final VBox container;
+    private final ArrayDeque<DialogBox> pool = new ArrayDeque<>();
+    // Placeholders still waiting for their reply; one scrolled out of the history must not be reused meanwhile.
+    private final Set<DialogBox> pendingPlaceholders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    DialogHistory(VBox container) {
+        assert container != null : "DialogHistory created with null container";
+        this.container = container;
+    }
+
+    /**
+     * Adds a message from the user to the end of the conversation.
+     */
+    void addUserMessage(String text, Image img) {
+        add(obtain(text, img, false));
+    }
+
+    /**
+     * Adds a message from Elyra to the end of the conversation.
+     */
+    void addElyraMessage(String text, Image img) {
+        add(obtain(text, img, true));
+    }
+
+    /**
+     * Adds a hidden message from Elyra to the end of the conversation, to be replaced by a reply later.
+     *
+     * @param text Message shown if the placeholder is made visible while waiting.
+     * @param img Picture of Elyra.
+     * @return The placeholder, to be passed to {@link #replacePlaceholder(DialogBox, String, TaskListing, Image)}.
+     */
+    DialogBox addPlaceholder(String text, Image img) {
+        DialogBox placeholder = obtain(text, img, true);
+        placeholder.setVisible(false);
+        placeholder.setManaged(false);
+        this.pendingPlaceholders.add(placeholder);
+        add(placeholder);
+        return placeholder;
+    }
+
+    /**
+     * Replaces a placeholder with Elyra's reply, or drops the reply if the placeholder has left the history.
+     *
+     * @param placeholder Placeholder returned by {@link #addPlaceholder(String, Image)}.
+     * @param text Text of the reply.
+     * @param listing Listing shown under the text, or null if the reply has none.
+     * @param img Picture of Elyra.
+     */
+    void replacePlaceholder(DialogBox placeholder, String text, TaskListing listing, Image img) {
+        boolean isPending = this.pendingPlaceholders.remove(placeholder);
+        assert isPending : "replacePlaceholder called twice for the same placeholder";
+        ObservableList<Node> dialogs = this.container.getChildren();
+        int index = dialogs.indexOf(placeholder);
+        if (index >= 0) {
+            DialogBox reply = listing == null
+                    ? obtain(text, img, true)
+                    : DialogBox.getElyraListingDialog(listing, img);
+            dialogs.set(index, reply);
+        }
+        recycle(placeholder);
+    }
+
+    /**
+     * Removes a placeholder that turned out not to need a reply.
+     *
+     * @param placeholder Placeholder returned by {@link #addPlaceholder(String, Image)}.
+     */
+    void removePlaceholder(DialogBox placeholder) {
+        boolean isPending = this.pendingPlaceholders.remove(placeholder);
+        assert isPending : "removePlaceholder called for a placeholder no longer pending";
+        this.container.getChildren().remove(placeholder);
+        recycle(placeholder);
+    }
+
+    private DialogBox obtain(String text, Image img, boolean isReply) {
+        DialogBox dialogBox = this.pool.poll();
+        if (dialogBox == null) {
+            return isReply ? DialogBox.getElyraDialog(text, img) : DialogBox.getUserDialog(text, img);
+        }
+        dialogBox.show(text, img, isReply);
+        return dialogBox;
+    }
+
+    private void add(DialogBox dialogBox) {
+        ObservableList<Node> dialogs = this.container.getChildren();
+        dialogs.add(dialogBox);
+        int excessCount = dialogs.size() - MAX_DIALOGS;
+        if (excessCount <= 0) {
+            return;
+        }
+        DialogBox[] removed = dialogs.subList(0, excessCount).toArray(new DialogBox[0]);
+        dialogs.remove(0, excessCount);
+        for (DialogBox removedBox : removed) {
+            if (!this.pendingPlaceholders.contains(removedBox)) {
+                recycle(removedBox);
+            }
+        }
+    }
+
+    private void recycle(DialogBox dialogBox) {
+        if (dialogBox.isRecyclable() && this.pool.size() < MAX_POOLED_DIALOGS) {
+            this.pool.push(dialogBox);
+        }
+    }
+}
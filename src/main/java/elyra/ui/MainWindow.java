@@ -1,5 +1,9 @@
 package elyra.ui;
 
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import elyra.CommandQueue;
 import elyra.Elyra;
 import elyra.command.ExecutionResult;
 import javafx.animation.PauseTransition;
@@ -17,6 +21,8 @@ import javafx.util.Duration;
  * Controller for the main GUI.
  */
 public class MainWindow extends AnchorPane {
+    private static final double PLACEHOLDER_DELAY_MILLIS = 150.0;
+
     @FXML
     private ScrollPane scrollPane;
     @FXML
@@ -26,7 +32,9 @@ public class MainWindow extends AnchorPane {
     @FXML
     private Button sendButton;
 
-    private Elyra elyra;
+    private final Ui ui = new Ui();
+    private CommandQueue commandQueue;
+    private DialogHistory dialogHistory;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/User.png"));
     private Image elyraImage = new Image(this.getClass().getResourceAsStream("/images/Elyra.png"));
@@ -40,45 +48,106 @@ public class MainWindow extends AnchorPane {
         assert sendButton != null : "sendButton was not injected (FXML mismatch?)";
 
         scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogHistory = new DialogHistory(dialogContainer);
     }
 
-    /** Injects the Elyra instance with default greeting */
-    public void setElyra(Elyra elyra) {
-        assert elyra != null : "setElyra called with null";
-        assert this.elyra == null : "setElyra should only be called once";
-        this.elyra = elyra;
-        dialogContainer.getChildren().add(DialogBox.getElyraDialog(this.elyra.getGreeting(), elyraImage));
-        if (elyra.haveLoadError()) {
-            dialogContainer.getChildren().add(DialogBox.getElyraDialog(this.elyra.getLoadDataErrorMessage(),
-                    elyraImage));
-        }
+    /**
+     * Greets the user, then starts creating Elyra in the background and returns without waiting for its tasks to
+     * load. A loading message is shown if loading takes a while, and input entered meanwhile is queued.
+     *
+     * @param elyraLoader Creates the Elyra instance, loading its tasks.
+     * @param loadListener Called on the FX application thread once the tasks are loaded.
+     */
+    public void loadElyra(Supplier<Elyra> elyraLoader, Runnable loadListener) {
+        assert elyraLoader != null : "loadElyra called with null loader";
+        assert commandQueue == null : "loadElyra should only be called once";
+        dialogHistory.addElyraMessage(ui.greetUser(Elyra.NAME), elyraImage);
+        DialogBox loading = dialogHistory.addPlaceholder("Loading your tasks...", elyraImage);
+        PauseTransition loadingDelay = showAfterDelay(loading);
+
+        commandQueue = new CommandQueue(() -> {
+            Elyra elyra = elyraLoader.get();
+            elyra.setSaveErrorListener(message -> Platform.runLater(() ->
+                    dialogHistory.addElyraMessage(message, elyraImage)));
+            return elyra;
+        }, Platform::runLater);
+        commandQueue.whenLoaded(elyra -> {
+            loadingDelay.stop();
+            if (elyra == null) {
+                dialogHistory.replacePlaceholder(loading, ui.showStartupErrorMessage(), null, elyraImage);
+            } else if (elyra.haveLoadError()) {
+                dialogHistory.replacePlaceholder(loading, elyra.getLoadDataErrorMessage(), null, elyraImage);
+            } else {
+                dialogHistory.removePlaceholder(loading);
+            }
+            loadListener.run();
+        });
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Elyra's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Echoes the user input in a dialog box and queues it to run in the background, then clears the user input.
+     * Elyra's reply takes the place of a hidden "working" dialog box, shown only if the command takes a while, so
+     * replies stay in order while the window keeps responding and more input can be queued.
      */
     @FXML
     private void handleUserInput() {
-        assert elyra != null : "handleUserInput called before setElyra";
+        assert commandQueue != null : "handleUserInput called before loadElyra";
         String input = userInput.getText();
         assert input != null : "TextField#getText returned null (unexpected)";
 
-        ExecutionResult result = elyra.getResponse(input);
+        dialogHistory.addUserMessage(input, userImage);
+        DialogBox working = dialogHistory.addPlaceholder("Working on it...", elyraImage);
+        PauseTransition workingDelay = showAfterDelay(working);
+        userInput.clear();
+
+        commandQueue.submit(input, result -> {
+            workingDelay.stop();
+            showResult(result, working);
+        });
+    }
+
+    /**
+     * Replaces the placeholder dialog box with Elyra's reply, and exits shortly after a bye command.
+     * Called on the FX application thread.
+     */
+    private void showResult(ExecutionResult result, DialogBox placeholder) {
         assert result != null : "Elyra#getResponse returned null (unexpected)";
         assert result.response() != null : "result.response is null";
 
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getElyraDialog(result.response(), elyraImage)
-        );
-        userInput.clear();
+        dialogHistory.replacePlaceholder(placeholder, result.response(), result.listing(), elyraImage);
 
         if (result.isExit()) {
+            userInput.setDisable(true);
+            sendButton.setDisable(true);
             double delaySeconds = 1.0;
             PauseTransition delay = new PauseTransition(Duration.seconds(delaySeconds));
             delay.setOnFinished(e -> Platform.exit());
             delay.play();
         }
     }
+
+    /**
+     * Shows the hidden placeholder unless the returned delay is stopped first, so that quick work does not flicker.
+     */
+    private PauseTransition showAfterDelay(DialogBox placeholder) {
+        PauseTransition delay = new PauseTransition(Duration.millis(PLACEHOLDER_DELAY_MILLIS));
+        delay.setOnFinished(e -> {
+            placeholder.setVisible(true);
+            placeholder.setManaged(true);
+        });
+        delay.play();
+        return delay;
+    }
+
+    /**
+     * Runs every queued command, then saves any change still being written.
+     * Called when the application exits, whether through bye or the window.
+     *
+     * @throws IOException If an error occurs while saving.
+     */
+    public void shutdown() throws IOException {
+        if (commandQueue != null) {
+            commandQueue.shutdown();
+        }
+    }
 }
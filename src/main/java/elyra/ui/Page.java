@@ -0,0 +1,67 @@
+package elyra.ui;
+
+import java.util.List;
+
+/**
+ * Represents which page of a listing to show, such as the "--page 3 --limit 50" in "list --page 3 --limit 50".
+ *
+ * @param number Number of the page (1-based).
+ * @param size Maximum number of tasks on a page.
+ */
+public record Page(int number, int size) {
+    /** Number of tasks on a page when only the page number is given. */
+    public static final int DEFAULT_SIZE = 20;
+    /** A single page holding every task, used when no page is asked for. */
+    public static final Page ALL = new Page(1, Integer.MAX_VALUE);
+
+    /**
+     * Constructs a new Page and validates that it is not empty.
+     */
+    public Page {
+        assert number >= 1 : "Page number must be at least 1";
+        assert size >= 1 : "Page size must be at least 1";
+    }
+
+    public boolean isAll() {
+        return this.size == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position of the first task of this page (0-based).
+     */
+    public long getOffset() {
+        return (long) (this.number - 1) * this.size;
+    }
+
+    /**
+     * Returns the items on this page, as a view of the given list.
+     *
+     * @param items Items to page through.
+     * @param <T> Type of the items.
+     * @return The items on this page.
+     * @throws IndexOutOfBoundsException If this page starts after the last item.
+     */
+    public <T> List<T> slice(List<T> items) {
+        if (getOffset() >= items.size()) {
+            long pageCount = (items.size() + (long) this.size - 1) / this.size;
+            String message = "Page " + this.number + " is out of range. There " + (pageCount == 1 ? "is" : "are")
+                    + " only " + pageCount + " page" + (pageCount == 1 ? "" : "s") + " of " + this.size + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        int from = (int) getOffset();
+        return items.subList(from, (int) Math.min(items.size(), from + (long) this.size));
+    }
+
+    /**
+     * Describes where this page lies among the given number of items, e.g. "page 2 of 5, 21-40 of 97".
+     *
+     * @param totalCount Number of items paged through.
+     * @return The description of this page.
+     */
+    String describe(int totalCount) {
+        long pageCount = (totalCount + (long) this.size - 1) / this.size;
+        long last = Math.min(totalCount, getOffset() + this.size);
+        return "page " + this.number + " of " + pageCount + ", " + (getOffset() + 1) + "-" + last + " of "
+                + totalCount;
+    }
+}
@@ -0,0 +1,90 @@
+package elyra.ui;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import elyra.task.Task;
+
+/**
+ * Represents a numbered list of tasks shown to the user under a header, formatted one row at a time.
+ * The GUI only formats the rows scrolled into view, and text output streams the rows to its sink one by one, so
+ * listing many tasks never builds the whole listing in memory.
+ * The listing keeps the list it is given instead of copying it, which would format nothing until every task had
+ * been copied, and decoded if it came from a mapped file. The list must therefore never change afterwards, like the
+ * tasks of a TaskList snapshot.
+ */
+public final class TaskListing {
+    private final String header;
+    private final List<Task> tasks;
+    private final int firstNumber;
+    private final DateTimeFormatter timeFormatter;
+
+    TaskListing(String header, List<Task> tasks, int firstNumber, DateTimeFormatter timeFormatter) {
+        assert header != null : "TaskListing.header cannot be null";
+        assert firstNumber >= 1 : "TaskListing.firstNumber must be at least 1";
+        assert timeFormatter != null : "TaskListing.timeFormatter cannot be null";
+        this.header = header;
+        this.tasks = tasks;
+        this.firstNumber = firstNumber;
+        this.timeFormatter = timeFormatter;
+    }
+
+    public String getHeader() {
+        return this.header;
+    }
+
+    /**
+     * Returns the listed tasks, in order.
+     */
+    public List<Task> getTasks() {
+        return this.tasks;
+    }
+
+    public int size() {
+        return this.tasks.size();
+    }
+
+    /**
+     * Formats the row of the task at the given position.
+     *
+     * @param position Position of the task in the listing (0-based).
+     * @return The numbered row, e.g. "1. [T][ ] read book".
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     */
+    public String formatRow(int position) {
+        return (this.firstNumber + position) + ". " + this.tasks.get(position).toUiString(this.timeFormatter);
+    }
+
+    /**
+     * Writes the header and every row to the given sink, one per line, as each row is formatted.
+     * Nothing is written after the last row.
+     *
+     * @param out Sink to write to.
+     * @throws IOException If the sink fails to write.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        out.append(this.header);
+        for (int position = 0; position < this.tasks.size(); position++) {
+            out.append(System.lineSeparator())
+                    .append(Integer.toString(this.firstNumber + position))
+                    .append(". ")
+                    .append(this.tasks.get(position).toUiString(this.timeFormatter));
+        }
+    }
+
+    /**
+     * Formats the header and every row as a single text, one per line.
+     *
+     * @return The whole listing as text.
+     */
+    public String formatText() {
+        StringBuilder text = new StringBuilder();
+        try {
+            writeTo(text);
+        } catch (IOException e) {
+            throw new AssertionError("Unreachable state: A StringBuilder failed to append.", e);
+        }
+        return text.toString();
+    }
+}
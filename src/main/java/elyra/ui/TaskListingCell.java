@@ -0,0 +1,23 @@
+package elyra.ui;
+
+import elyra.task.Task;
+import javafx.scene.control.ListCell;
+
+/**
+ * Represents a row of a task listing shown in a ListView.
+ * A cell is reused for whichever row scrolls into it, and formats that row only when it is shown.
+ */
+class TaskListingCell extends ListCell<Task> {
+    private final TaskListing listing;
+
+    TaskListingCell(TaskListing listing) {
+        this.listing = listing;
+        getStyleClass().add("task-listing-cell");
+    }
+
+    @Override
+    protected void updateItem(Task task, boolean isEmpty) {
+        super.updateItem(task, isEmpty);
+        setText(isEmpty || task == null ? null : this.listing.formatRow(getIndex()));
+    }
+}
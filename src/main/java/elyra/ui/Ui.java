@@ -1,28 +1,53 @@
 package elyra.ui;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.IntStream;
 
 import elyra.task.Task;
 import elyra.task.TaskList;
+import elyra.task.TimeSlot;
 
 /**
  * Handles user interactions by formatting messages for display.
  */
 public class Ui {
+    private static final int MAX_CONFIRMED_TASKS_SHOWN = 10;
     private final String smallIndentation = " ".repeat(2);
     private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(
             "MMM dd uuuu, h:mm a", Locale.ENGLISH);
 
-    private String[] formatTaskList(ArrayList<Task> tasks) {
+    private String formatTaskList(String header, List<Task> tasks) {
         assert tasks != null : "formatTaskList should not receive null tasks list";
         assert tasks.stream().allMatch(Objects::nonNull) : "Task list contains null entries";
-        return IntStream.range(0, tasks.size())
-            .mapToObj(i -> (i + 1) + ". " + tasks.get(i).toUiString(this.timeFormatter))
-            .toArray(String[]::new);
+        return new TaskListing(header, tasks, 1, this.timeFormatter).formatText();
+    }
+
+    private TaskListing createListing(String header, List<Task> tasks, Page page) {
+        assert !tasks.isEmpty() : "A listing should not be created for an empty tasks list";
+        if (page.isAll()) {
+            return new TaskListing(header + ":", tasks, 1, this.timeFormatter);
+        }
+        String pagedHeader = header + " (" + page.describe(tasks.size()) + "):";
+        return new TaskListing(pagedHeader, page.slice(tasks), (int) page.getOffset() + 1, this.timeFormatter);
+    }
+
+    private String formatBulkConfirmation(String header, List<Task> tasks, String... footer) {
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        int shownCount = Math.min(tasks.size(), MAX_CONFIRMED_TASKS_SHOWN);
+        for (Task task : tasks.subList(0, shownCount)) {
+            lines.add(smallIndentation + task.toUiString(this.timeFormatter));
+        }
+        if (tasks.size() > shownCount) {
+            lines.add(smallIndentation + "...and " + (tasks.size() - shownCount) + " more.");
+        }
+        lines.addAll(List.of(footer));
+        return String.join(System.lineSeparator(), lines);
     }
 
     /**
@@ -51,16 +76,23 @@ public class Ui {
      * @param tasks List of tasks to display.
      * @return Formatted task list message.
      */
-    public String showUserInputList(ArrayList<Task> tasks) {
+    public String showUserInputList(List<Task> tasks) {
         if (tasks.isEmpty()) {
             return "You currently don't have any tasks in your list.";
         }
+        return listUserTasks(tasks, Page.ALL).formatText();
+    }
 
-        String header = "Here are your tasks:";
-        String[] formattedTaskList = formatTaskList(tasks);
-        return String.join(System.lineSeparator(),
-                header,
-                String.join(System.lineSeparator(), formattedTaskList));
+    /**
+     * Lists a page of the user's current tasks, to be formatted as they are shown.
+     *
+     * @param tasks Non-empty list of all tasks, which must not change afterwards, e.g. those of a TaskList snapshot.
+     * @param page Page of the tasks to list.
+     * @return Listing of the tasks on the page, numbered by their index in the list.
+     * @throws IndexOutOfBoundsException If the page starts after the last task.
+     */
+    public TaskListing listUserTasks(List<Task> tasks, Page page) {
+        return createListing("Here are your tasks", tasks, page);
     }
 
     /**
@@ -70,16 +102,97 @@ public class Ui {
      * @param keyword Keyword used for matching.
      * @return Formatted matching task list message.
      */
-    public String showMatchingTaskList(ArrayList<Task> tasks, String keyword) {
+    public String showMatchingTaskList(List<Task> tasks, String keyword) {
         if (tasks.isEmpty()) {
             return "There are no tasks matching the keyword: '" + keyword + "'";
         }
 
         String header = "Here are the matching tasks:";
-        String[] formattedTaskList = formatTaskList(tasks);
+        return formatTaskList(header, tasks);
+    }
+
+    /**
+     * Lists a page of the tasks matching a keyword, to be formatted as they are shown.
+     *
+     * @param tasks Non-empty list of all matching tasks, which must not change afterwards.
+     * @param page Page of the matching tasks to list.
+     * @return Listing of the matching tasks on the page.
+     * @throws IndexOutOfBoundsException If the page starts after the last matching task.
+     */
+    public TaskListing listMatchingTasks(List<Task> tasks, Page page) {
+        return createListing("Here are the matching tasks", tasks, page);
+    }
+
+    /**
+     * Displays the list of events overlapping a time window.
+     *
+     * @param events List of overlapping events to display, by start time.
+     * @param from Start of the window.
+     * @param to End of the window.
+     * @return Formatted event list message.
+     */
+    public String showEventsBetween(List<Task> events, LocalDateTime from, LocalDateTime to) {
+        String window = from.format(this.timeFormatter) + " and " + to.format(this.timeFormatter);
+        if (events.isEmpty()) {
+            return "There are no events between " + window + ".";
+        }
+
+        String header = "Here are the events between " + window + ":";
+        return formatTaskList(header, events);
+    }
+
+    /**
+     * Displays the free time slots within a time window.
+     *
+     * @param freeSlots List of free slots to display, in order.
+     * @param from Start of the window.
+     * @param to End of the window.
+     * @return Formatted free slot list message.
+     */
+    public String showFreeSlots(List<TimeSlot> freeSlots, LocalDateTime from, LocalDateTime to) {
+        String window = from.format(this.timeFormatter) + " and " + to.format(this.timeFormatter);
+        if (freeSlots.isEmpty()) {
+            return "You have no free time between " + window + ".";
+        }
+
+        String header = "Here are your free slots between " + window + ":";
+        String[] formattedSlots = IntStream.range(0, freeSlots.size())
+            .mapToObj(i -> (i + 1) + ". " + freeSlots.get(i).start().format(this.timeFormatter)
+                    + " to " + freeSlots.get(i).end().format(this.timeFormatter))
+            .toArray(String[]::new);
         return String.join(System.lineSeparator(),
                 header,
-                String.join(System.lineSeparator(), formattedTaskList));
+                String.join(System.lineSeparator(), formattedSlots));
+    }
+
+    /**
+     * Displays the undone deadlines due soonest.
+     *
+     * @param deadlines List of deadlines to display, by due time.
+     * @return Formatted deadline list message.
+     */
+    public String showDueDeadlines(List<Task> deadlines) {
+        if (deadlines.isEmpty()) {
+            return "You don't have any undone deadlines.";
+        }
+
+        String header = "Here are your next deadlines:";
+        return formatTaskList(header, deadlines);
+    }
+
+    /**
+     * Displays the undone deadlines that have already passed.
+     *
+     * @param deadlines List of overdue deadlines to display, by due time.
+     * @return Formatted overdue deadline list message.
+     */
+    public String showOverdueDeadlines(List<Task> deadlines) {
+        if (deadlines.isEmpty()) {
+            return "Nothing is overdue. Well done!";
+        }
+
+        String header = "These deadlines have passed:";
+        return formatTaskList(header, deadlines);
     }
 
     /**
@@ -92,7 +205,7 @@ public class Ui {
     public String confirmAddition(Task newTask, TaskList tasks) {
         String[] confirmation = {"Got it! I have added this task:",
                 smallIndentation + newTask.toUiString(this.timeFormatter),
-                "Now you have " + tasks.getTasks().size() + " tasks in the list."};
+                "Now you have " + tasks.size() + " tasks in the list."};
         return String.join(System.lineSeparator(), confirmation);
     }
 
@@ -106,7 +219,7 @@ public class Ui {
     public String confirmDeletion(Task removedTask, TaskList tasks) {
         String[] confirmation = {"Noted! I have removed this task:",
                 smallIndentation + removedTask.toUiString(this.timeFormatter),
-                "Now you have " + tasks.getTasks().size() + " tasks in the list."};
+                "Now you have " + tasks.size() + " tasks in the list."};
         return String.join(System.lineSeparator(), confirmation);
     }
 
@@ -134,6 +247,40 @@ public class Ui {
         return String.join(System.lineSeparator(), confirmation);
     }
 
+    /**
+     * Confirms that several tasks have been marked as done.
+     *
+     * @param markedTasks The tasks that were marked, in list order.
+     * @return Formatted marking confirmation message.
+     */
+    public String confirmBulkMark(List<Task> markedTasks) {
+        return formatBulkConfirmation("Good job! I have marked these " + markedTasks.size() + " tasks as done!",
+                markedTasks);
+    }
+
+    /**
+     * Confirms that several tasks have been unmarked as not done.
+     *
+     * @param unmarkedTasks The tasks that were unmarked, in list order.
+     * @return Formatted unmarking confirmation message.
+     */
+    public String confirmBulkUnmark(List<Task> unmarkedTasks) {
+        return formatBulkConfirmation("Alright! I have marked these " + unmarkedTasks.size()
+                + " tasks as not done yet.", unmarkedTasks);
+    }
+
+    /**
+     * Confirms the deletion of several tasks.
+     *
+     * @param removedTasks The tasks that were removed, in their former list order.
+     * @param tasks The current task list.
+     * @return Formatted deletion confirmation message.
+     */
+    public String confirmBulkDeletion(List<Task> removedTasks, TaskList tasks) {
+        return formatBulkConfirmation("Noted! I have removed these " + removedTasks.size() + " tasks:",
+                removedTasks, "Now you have " + tasks.size() + " tasks in the list.");
+    }
+
     /**
      * Confirms that a task has been updated accordingly.
      *
@@ -160,6 +307,28 @@ public class Ui {
         return String.join(System.lineSeparator(), errorMessage);
     }
 
+    /**
+     * Displays an error message when a command failed in an unexpected way.
+     *
+     * @param userInput User input that caused the error.
+     */
+    public String showUnexpectedErrorMessage(String userInput) {
+        String[] errorMessage = {"Oops! Something went wrong while running your command.",
+                smallIndentation + "Received: \"" + userInput + "\"",
+                "Please check your task list and try again."};
+        return String.join(System.lineSeparator(), errorMessage);
+    }
+
+    /**
+     * Displays an error message when Elyra failed to start, so commands cannot be run.
+     */
+    public String showStartupErrorMessage() {
+        String[] errorMessage = {"Oops! We encountered a problem!",
+                "Elyra could not start, so your commands cannot be run.",
+                "Please exit and check the error output for details."};
+        return String.join(System.lineSeparator(), errorMessage);
+    }
+
     /**
      * Displays an error message when data cannot be loaded.
      *
@@ -173,6 +342,21 @@ public class Ui {
         return String.join(System.lineSeparator(), errorMessage);
     }
 
+    /**
+     * Displays an error message when data was corrupted and only the intact tasks could be loaded.
+     *
+     * @param message Error message to display.
+     * @param quarantinedCount Number of corrupted records that were set aside.
+     * @param quarantinePath Path of the file the corrupted records were moved to.
+     */
+    public String showRecoveredDataMessage(String message, int quarantinedCount, String quarantinePath) {
+        String[] errorMessage = {"Oops! We encountered a problem!",
+                message,
+                "We loaded every task we could and skipped " + quarantinedCount + " corrupted record(s).",
+                "The skipped records were moved to " + quarantinePath + " so you can check them."};
+        return String.join(System.lineSeparator(), errorMessage);
+    }
+
     /**
      * Displays an error message when data cannot be saved.
      *
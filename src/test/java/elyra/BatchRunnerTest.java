@@ -0,0 +1,78 @@
+package elyra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import elyra.storage.Storage;
+import elyra.task.TaskList;
+
+public class BatchRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_scriptWithChanges_savesThemOnceAtTheEnd() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        StringWriter output = new StringWriter();
+        BatchRunner runner = new BatchRunner(new Elyra(file.toString()), new PrintWriter(output));
+
+        boolean isSaved = runner.run(new BufferedReader(new StringReader("todo read book\n\nmark 1\nnonsense\n")));
+
+        assertTrue(isSaved);
+        assertTrue(output.toString().contains("I have marked this task as done!"));
+        assertTrue(output.toString().contains("I don't recognize that command."));
+        TaskList tasks = new Storage(file.toString()).loadTasks();
+        assertEquals(1, tasks.size());
+        assertTrue(tasks.getTask(1).isDone());
+        assertEquals(2, Files.readAllLines(Path.of(file + Storage.JOURNAL_SUFFIX)).size());
+    }
+
+    @Test
+    void run_scriptWithBye_stopsAtBye() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        BatchRunner runner = new BatchRunner(new Elyra(file.toString()), new PrintWriter(new StringWriter()));
+
+        runner.run(new BufferedReader(new StringReader("todo read book\nbye\ntodo buy milk\n")));
+
+        assertEquals(1, new Storage(file.toString()).loadTasks().size());
+    }
+
+    @Test
+    void run_scriptWithList_printsEveryListedTask() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        StringWriter output = new StringWriter();
+        BatchRunner runner = new BatchRunner(new Elyra(file.toString()), new PrintWriter(output));
+
+        runner.run(new BufferedReader(new StringReader("todo read book\ntodo buy milk\nlist\n")));
+
+        String expected = String.join(System.lineSeparator(),
+                "Here are your tasks:", "1. [T][ ] read book", "2. [T][ ] buy milk");
+        assertTrue(output.toString().contains(expected));
+    }
+
+    @Test
+    void run_scriptWithPagedList_printsOnlyThatPage() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        StringWriter output = new StringWriter();
+        BatchRunner runner = new BatchRunner(new Elyra(file.toString()), new PrintWriter(output));
+
+        runner.run(new BufferedReader(new StringReader("todo a\ntodo b\ntodo c\nlist --page 2 --limit 2\n"
+                + "list --page 3 --limit 2\n")));
+
+        String expected = String.join(System.lineSeparator(),
+                "Here are your tasks (page 2 of 2, 3-3 of 3):", "3. [T][ ] c", "");
+        assertTrue(output.toString().contains(expected));
+        assertTrue(output.toString().contains("Page 3 is out of range. There are only 2 pages of 2."));
+    }
+}
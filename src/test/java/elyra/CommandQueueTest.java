@@ -0,0 +1,95 @@
+package elyra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import elyra.storage.Storage;
+import elyra.task.TaskList;
+
+public class CommandQueueTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void submit_manyCommands_deliversResultsInOrderOffTheCallingThread() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        CommandQueue queue = new CommandQueue(new Elyra(file.toString()), Runnable::run);
+        List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> resultThreads = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 1; i <= 50; i++) {
+            queue.submit("todo task " + i, result -> {
+                responses.add(result.response());
+                resultThreads.add(Thread.currentThread());
+            });
+        }
+        queue.shutdown();
+
+        assertEquals(50, responses.size());
+        for (int i = 1; i <= 50; i++) {
+            assertTrue(responses.get(i - 1).contains("task " + i + System.lineSeparator()));
+        }
+        assertTrue(resultThreads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+        TaskList tasks = new Storage(file.toString()).loadTasks();
+        assertEquals(50, tasks.size());
+        assertEquals("task 50", tasks.getTask(50).getDescription());
+    }
+
+    @Test
+    void submit_whileLoading_runsAfterLoadHandler() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        CountDownLatch loadGate = new CountDownLatch(1);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CommandQueue queue = new CommandQueue(() -> {
+            awaitQuietly(loadGate);
+            events.add("loaded");
+            return new Elyra(file.toString());
+        }, Runnable::run);
+
+        queue.whenLoaded(elyra -> events.add("load handled"));
+        queue.submit("todo read book", result -> events.add(result.response()));
+        events.add("submitted");
+        loadGate.countDown();
+        queue.shutdown();
+
+        assertEquals("submitted", events.get(0));
+        assertEquals(List.of("loaded", "load handled"), events.subList(1, 3));
+        assertTrue(events.get(3).startsWith("Got it! I have added this task:"));
+    }
+
+    @Test
+    void submit_failedLoad_answersWithStartupError() throws IOException {
+        CommandQueue queue = new CommandQueue(() -> {
+            throw new IllegalArgumentException("Unknown storage format.");
+        }, Runnable::run);
+        List<Elyra> loaded = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> errorFlags = Collections.synchronizedList(new ArrayList<>());
+
+        queue.whenLoaded(loaded::add);
+        queue.submit("list", result -> errorFlags.add(result.isError()));
+        queue.shutdown();
+
+        assertEquals(1, loaded.size());
+        assertNull(loaded.get(0));
+        assertEquals(List.of(true), errorFlags);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package elyra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import elyra.storage.Storage;
+
+public class CommandServerTest {
+    @TempDir
+    Path tempDir;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void post_command_returnsResultAsJson() throws Exception {
+        Elyra elyra = new Elyra(tempDir.resolve("tasks.txt").toString());
+        CommandServer server = startServer(elyra);
+        HttpResponse<String> response;
+        try {
+            post(server, "todo read \"book\"");
+            response = post(server, "list");
+        } finally {
+            server.stop();
+            elyra.shutdown();
+        }
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        String expected = "{\"response\":\"Here are your tasks:" + jsonLineSeparator()
+                + "1. [T][ ] read \\\"book\\\"\",\"isError\":false,\"isExit\":false,\"isSave\":false}";
+        assertEquals(expected, response.body());
+    }
+
+    @Test
+    void post_invalidCommand_reportsError() throws Exception {
+        Elyra elyra = new Elyra(tempDir.resolve("tasks.txt").toString());
+        CommandServer server = startServer(elyra);
+        HttpResponse<String> response;
+        try {
+            response = post(server, "nonsense");
+        } finally {
+            server.stop();
+            elyra.shutdown();
+        }
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"isError\":true"));
+    }
+
+    @Test
+    void get_command_isRejected() throws Exception {
+        Elyra elyra = new Elyra(tempDir.resolve("tasks.txt").toString());
+        CommandServer server = startServer(elyra);
+        HttpResponse<String> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(commandUri(server)).GET().build();
+            response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+        } finally {
+            server.stop();
+            elyra.shutdown();
+        }
+
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(""));
+    }
+
+    @Test
+    void post_concurrentReadsAndWrites_runsEveryCommand() throws Exception {
+        Elyra elyra = new Elyra(tempDir.resolve("tasks.txt").toString());
+        CommandServer server = startServer(elyra);
+        int writerCount = 4;
+        int commandsPerClient = 50;
+        ExecutorService clients = Executors.newFixedThreadPool(writerCount * 2);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            int writer = i;
+            results.add(clients.submit(() -> {
+                boolean isAllAnswered = true;
+                for (int j = 0; j < commandsPerClient; j++) {
+                    isAllAnswered &= post(server, "todo task " + writer + "-" + j).statusCode() == 200;
+                }
+                return isAllAnswered;
+            }));
+            results.add(clients.submit(() -> {
+                boolean isAllAnswered = true;
+                for (int j = 0; j < commandsPerClient; j++) {
+                    String command = j % 2 == 0 ? "list --limit 5" : "find task";
+                    HttpResponse<String> response = post(server, command);
+                    isAllAnswered &= response.statusCode() == 200 && !response.body().contains("\"isError\":true");
+                }
+                return isAllAnswered;
+            }));
+        }
+        try {
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            clients.shutdown();
+            server.stop();
+            elyra.shutdown();
+        }
+
+        assertEquals(writerCount * commandsPerClient,
+                new Storage(tempDir.resolve("tasks.txt").toString()).loadTasks().size());
+    }
+
+    private static CommandServer startServer(Elyra elyra) throws IOException {
+        CommandServer server = new CommandServer(elyra, 0);
+        server.start();
+        return server;
+    }
+
+    private HttpResponse<String> post(CommandServer server, String command) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(commandUri(server))
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI commandUri(CommandServer server) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + CommandServer.COMMAND_PATH);
+    }
+
+    private static String jsonLineSeparator() {
+        return System.lineSeparator().replace("\r", "\\r").replace("\n", "\\n");
+    }
+}
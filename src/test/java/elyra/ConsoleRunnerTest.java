@@ -0,0 +1,58 @@
+package elyra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import elyra.storage.Storage;
+
+public class ConsoleRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_commandsUntilBye_framesGreetingAndEveryResponse() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        StringWriter output = new StringWriter();
+        ConsoleRunner runner = new ConsoleRunner(new Elyra(file.toString()), new PrintWriter(output));
+
+        boolean isSaved = runner.run(new BufferedReader(new StringReader("todo read book\n\nbye\ntodo buy milk\n")));
+
+        assertTrue(isSaved);
+        String divider = "    " + "-".repeat(60);
+        String expected = String.join(System.lineSeparator(),
+                divider,
+                "    Got it! I have added this task:",
+                "      [T][ ] read book",
+                "    Now you have 1 tasks in the list.",
+                divider);
+        assertTrue(output.toString().startsWith(divider + System.lineSeparator() + "    Hello! I am Elyra"));
+        assertTrue(output.toString().contains(expected));
+        assertTrue(output.toString().endsWith("    Goodbye! Hope to see you again soon!" + System.lineSeparator()
+                + divider + System.lineSeparator()));
+        assertEquals(1, new Storage(file.toString()).loadTasks().size());
+    }
+
+    @Test
+    void run_listOfTasks_indentsEveryRow() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        StringWriter output = new StringWriter();
+        ConsoleRunner runner = new ConsoleRunner(new Elyra(file.toString()), new PrintWriter(output));
+
+        runner.run(new BufferedReader(new StringReader("todo read book\ntodo buy milk\nlist\n")));
+
+        String expected = String.join(System.lineSeparator(),
+                "    Here are your tasks:", "    1. [T][ ] read book", "    2. [T][ ] buy milk",
+                "    " + "-".repeat(60));
+        assertTrue(output.toString().contains(expected));
+    }
+}
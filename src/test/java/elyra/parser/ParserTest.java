@@ -7,21 +7,29 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import elyra.command.AddDeadlineCommand;
 import elyra.command.AddEventCommand;
 import elyra.command.AddTodoCommand;
+import elyra.command.BulkCommand;
 import elyra.command.ByeCommand;
 import elyra.command.Command;
 import elyra.command.DeleteCommand;
+import elyra.command.DueCommand;
 import elyra.command.FindCommand;
+import elyra.command.FindEventsCommand;
+import elyra.command.FindFreeSlotsCommand;
+import elyra.command.IndexRange;
 import elyra.command.ListCommand;
 import elyra.command.MarkCommand;
+import elyra.command.OverdueCommand;
 import elyra.command.UnmarkCommand;
 import elyra.command.UpdateCommand;
 import elyra.storage.Storage;
+import elyra.ui.Page;
 
 // Solution below was adapted from AI generated draft of ParserTest, with modifications to match the actual
 // Parser implementation and command formats. Major help was on generating repetitive test cases for various error
@@ -96,6 +104,52 @@ public class ParserTest {
         assertPrivateFieldEquals(command, "keyword", "read book");
     }
 
+    @Test
+    void parseCommand_eventsWithWindow_returnsFindEventsCommand() {
+        Command command = parser.parseCommand("events /from 2024-03-01 00:00 /to 2024-03-08 00:00");
+        assertInstanceOf(FindEventsCommand.class, command);
+        assertPrivateFieldEquals(command, "from", LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertPrivateFieldEquals(command, "to", LocalDateTime.of(2024, 3, 8, 0, 0));
+    }
+
+    @Test
+    void parseCommand_freeWithWindow_returnsFindFreeSlotsCommand() {
+        Command command = parser.parseCommand("free /from 2024-03-01 09:00 /to 2024-03-01 18:00");
+        assertInstanceOf(FindFreeSlotsCommand.class, command);
+        assertPrivateFieldEquals(command, "from", LocalDateTime.of(2024, 3, 1, 9, 0));
+        assertPrivateFieldEquals(command, "to", LocalDateTime.of(2024, 3, 1, 18, 0));
+    }
+
+    @Test
+    void parseCommand_dueWithCount_returnsDueCommand() {
+        Command command = parser.parseCommand("due 5");
+        assertInstanceOf(DueCommand.class, command);
+        assertPrivateFieldEquals(command, "count", 5);
+    }
+
+    @Test
+    void parseCommand_overdue_returnsOverdueCommand() {
+        Command command = parser.parseCommand("overdue");
+        assertInstanceOf(OverdueCommand.class, command);
+    }
+
+    @Test
+    void parseCommand_markRange_returnsBulkCommand() {
+        Command command = parser.parseCommand("mark 3-500");
+        assertInstanceOf(BulkCommand.class, command);
+        assertPrivateFieldEquals(command, "action", BulkCommand.Action.MARK);
+        assertPrivateFieldEquals(command, "ranges", List.of(new IndexRange(3, 500)));
+    }
+
+    @Test
+    void parseCommand_deleteIndexList_returnsBulkCommand() {
+        Command command = parser.parseCommand("delete 1,4-6,9");
+        assertInstanceOf(BulkCommand.class, command);
+        assertPrivateFieldEquals(command, "action", BulkCommand.Action.DELETE);
+        assertPrivateFieldEquals(command, "ranges",
+                List.of(new IndexRange(1, 1), new IndexRange(4, 6), new IndexRange(9, 9)));
+    }
+
     @Test
     void parseCommand_updateTextField_returnsUpdateCommand() {
         Command command = parser.parseCommand("update 2 /field description /with new title");
@@ -121,7 +175,7 @@ public class ParserTest {
     void parseCommand_unknownCommand_throwsWithMessage() {
         assertThrowsWithMessage("unknown",
                 "I don't recognize that command. Try: list, todo, deadline, event, "
-                        + "mark, unmark, delete, find, update, bye.");
+                        + "mark, unmark, delete, find, update, events, free, due, overdue, bye.");
     }
 
     @Test
@@ -139,7 +193,35 @@ public class ParserTest {
 
     @Test
     void parseCommand_listWithArguments_throwsWithMessage() {
-        assertThrowsWithMessage("list all", "The 'list' command does not take any arguments. Usage: list");
+        assertThrowsWithMessage("list all", "The 'list' command only takes paging options. "
+                + "Usage: list [--page <number>] [--limit <count>]");
+    }
+
+    @Test
+    void parseCommand_listWithPagingOptions_returnsPagedListCommand() {
+        assertPrivateFieldEquals(parser.parseCommand("list --page 3 --limit 50"), "page", new Page(3, 50));
+        assertPrivateFieldEquals(parser.parseCommand("list --LIMIT 5"), "page", new Page(1, 5));
+        assertPrivateFieldEquals(parser.parseCommand("list --page 2"), "page", new Page(2, Page.DEFAULT_SIZE));
+        assertPrivateFieldEquals(parser.parseCommand("list"), "page", Page.ALL);
+    }
+
+    @Test
+    void parseCommand_findWithPagingOptions_splitsKeywordFromOptions() {
+        Command command = parser.parseCommand("find read   book --limit 10");
+        assertPrivateFieldEquals(command, "keyword", "read book");
+        assertPrivateFieldEquals(command, "page", new Page(1, 10));
+        assertPrivateFieldEquals(parser.parseCommand("find --limit"), "keyword", "--limit");
+    }
+
+    @Test
+    void parseCommand_invalidPagingOptions_throwsWithMessage() {
+        assertThrowsWithMessage("list --page 0",
+                "Paging options must be at least 1. Example: list --page 2 --limit 50");
+        assertThrowsWithMessage("list --page two", "Paging options take a number. Example: list --page 2 --limit 50");
+        assertThrowsWithMessage("list --page 1 --page 2", "The --page option can only be given once. "
+                + "Usage: list [--page <number>] [--limit <count>]");
+        assertThrowsWithMessage("find --page 2", "The 'find' command needs a keyword. "
+                + "Usage: find <keyword> [--page <number>] [--limit <count>]");
     }
 
     @Test
@@ -219,8 +301,32 @@ public class ParserTest {
 
     @Test
     void parseCommand_findWithoutKeyword_throwsWithMessage() {
-        assertThrowsWithMessage("find",
-                "The 'find' command needs a keyword. Usage: find <keyword>");
+        assertThrowsWithMessage("find", "The 'find' command needs a keyword. "
+                + "Usage: find <keyword> [--page <number>] [--limit <count>]");
+    }
+
+    @Test
+    void parseCommand_eventsWithoutWindow_throwsWithMessage() {
+        assertThrowsWithMessage("events meeting /from 2024-03-01 00:00 /to 2024-03-08 00:00",
+                "The 'events' command requires a start time and an end time. "
+                        + "Usage: events /from yyyy-MM-dd HH:mm /to yyyy-MM-dd HH:mm");
+    }
+
+    @Test
+    void parseCommand_dueWithZeroCount_throwsWithMessage() {
+        assertThrowsWithMessage("due 0", "Count must be at least 1. Example: due 5");
+    }
+
+    @Test
+    void parseCommand_unmarkBackwardsRange_throwsWithMessage() {
+        assertThrowsWithMessage("unmark 5-3",
+                "Range 5-3 is backwards. Write the smaller index first. Example: unmark 3-5");
+    }
+
+    @Test
+    void parseCommand_deleteMalformedIndexList_throwsWithMessage() {
+        assertThrowsWithMessage("delete 1,,4",
+                "Indices must be numbers or ranges. Example: delete 1,4,9 or delete 3-5");
     }
 
     @Test
@@ -270,6 +376,24 @@ public class ParserTest {
         assertPrivateFieldEquals(command, "index", 5);
     }
 
+    @Test
+    void parseCommand_tabsAndRepeatedSpaces_joinsDescriptionWithSingleSpaces() {
+        Command command = parser.parseCommand("todo\tread  \t book   ");
+        assertInstanceOf(AddTodoCommand.class, command);
+        assertPrivateFieldEquals(command, "description", "read book");
+    }
+
+    @Test
+    void parseCommand_eventWithIrregularSpacing_returnsAddEventCommand() {
+        Command command = parser.parseCommand("event  team   sync/from\t2024-03-10   09:00 /to 2024-03-10\t10:30");
+        assertInstanceOf(AddEventCommand.class, command);
+        assertPrivateFieldEquals(command, "description", "team sync");
+        assertPrivateFieldEquals(command, "startAt", LocalDateTime.of(2024, 3, 10,
+                9, 0));
+        assertPrivateFieldEquals(command, "endAt", LocalDateTime.of(2024, 3, 10,
+                10, 30));
+    }
+
     @Test
     void parseCommand_mixedCase_returnsCorrectCommand() {
         Command command1 = parser.parseCommand("LiSt");
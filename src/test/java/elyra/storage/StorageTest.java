@@ -6,11 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -167,13 +172,366 @@ public class StorageTest {
 
         String delim = Storage.DELIM;
         String expectedContent = String.join(System.lineSeparator(),
-                "T" + delim + DONE_FLAG + delim + "read book",
-                "D" + delim + NOT_DONE_FLAG + delim + "submit report" + delim + "2024-02-01T12:30:00",
-                "E" + delim + DONE_FLAG + delim + "meeting" + delim + "2024-03-10T09:00:00"
-                        + delim + "2024-03-10T10:30:00") + System.lineSeparator();
+                withChecksum("T" + delim + DONE_FLAG + delim + "read book"),
+                withChecksum("D" + delim + NOT_DONE_FLAG + delim + "submit report" + delim + "2024-02-01T12:30:00"),
+                withChecksum("E" + delim + DONE_FLAG + delim + "meeting" + delim + "2024-03-10T09:00:00"
+                        + delim + "2024-03-10T10:30:00")) + System.lineSeparator();
         assertEquals(expectedContent, Files.readString(file));
     }
 
+    @Test
+    void appendChanges_thenLoadTasks_replaysJournalOverSnapshot() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("return book"));
+        storage.saveTasks(tasks);
+
+        tasks.markTask(1);
+        tasks.addTask(new Deadline("submit report", LocalDateTime.of(2024, 2, 1, 12, 30)));
+        tasks.deleteTask(2);
+        tasks.updateTask(1, "description", "read novel", null);
+        storage.appendChanges(tasks.drainChanges());
+
+        TaskList loadedTasks = new Storage(file.toString()).loadTasks();
+        assertEquals(2, loadedTasks.getTasks().size());
+        assertTaskInfos(loadedTasks.getTask(1), new String[] {"T", DONE_FLAG, "read novel"});
+        assertTaskInfos(loadedTasks.getTask(2),
+                new String[] {"D", NOT_DONE_FLAG, "submit report", "2024-02-01T12:30:00"});
+    }
+
+    @Test
+    void appendChanges_withoutSnapshot_loadsFromJournalOnly() throws IOException {
+        Path file = tempDir.resolve("nested").resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        storage.appendChanges(tasks.drainChanges());
+
+        TaskList loadedTasks = storage.loadTasks();
+        assertEquals(1, loadedTasks.getTasks().size());
+        assertTaskInfos(loadedTasks.getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+    }
+
+    @Test
+    void saveTasks_existingJournal_clearsJournal() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        storage.appendChanges(tasks.drainChanges());
+        tasks.markTask(1);
+        storage.saveTasks(tasks);
+
+        assertEquals(false, Files.exists(tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX)));
+        assertEquals(0, tasks.drainChanges().size());
+        assertEquals(1, storage.loadTasks().getTasks().size());
+    }
+
+    @Test
+    void loadTasks_journalIndexOutOfRange_throwsIoException() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Files.writeString(tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX), "M" + Storage.DELIM + "3");
+
+        Storage storage = new Storage(file.toString());
+        IOException exception = assertThrows(IOException.class, storage::loadTasks);
+        assertEquals("Journal file is corrupted at line 1: task index 3 does not exist.", exception.getMessage());
+    }
+
+    @Test
+    void appendChanges_journalOverLimit_compactsIntoSnapshot() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        int maxJournalRecords = 2;
+        Storage storage = new Storage(file.toString(), StorageFormat.TEXT, maxJournalRecords,
+                Long.MAX_VALUE);
+
+        TaskList tasks = storage.loadTasks();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("return book"));
+        tasks.markTask(2);
+        storage.appendChanges(tasks.drainChanges());
+        storage.awaitCompaction();
+
+        String delim = Storage.DELIM;
+        String expectedContent = String.join(System.lineSeparator(),
+                withChecksum("T" + delim + NOT_DONE_FLAG + delim + "read book"),
+                withChecksum("T" + delim + DONE_FLAG + delim + "return book")) + System.lineSeparator();
+        assertEquals(expectedContent, Files.readString(file));
+        assertEquals(false, Files.exists(tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX)));
+        assertEquals(2, new Storage(file.toString()).loadTasks().getTasks().size());
+    }
+
+    @Test
+    void appendChanges_compactionOfCorruptedSnapshotFailed_reportsItOnceAndStopsRetrying() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Path rolledJournal = tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX
+                + JournalCompactor.ROLLED_JOURNAL_SUFFIX);
+        Storage storage = new Storage(file.toString(), StorageFormat.TEXT, 1, Long.MAX_VALUE);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        storage.saveTasks(tasks);
+        Files.writeString(file, Files.readString(file).replace("read book", "read boot"));
+
+        tasks.addTask(new ToDo("return book"));
+        storage.appendChanges(tasks.drainChanges());
+        storage.awaitCompaction();
+        tasks.markTask(1);
+        IOException exception = assertThrows(IOException.class, () -> storage.appendChanges(tasks.drainChanges()));
+        assertEquals("Could not fold the journal into the data file: "
+                + "Data file is corrupted at line 1: checksum mismatch.", exception.getMessage());
+
+        // A compaction submitted again would fail the same way and be reported by a later append.
+        tasks.markTask(2);
+        storage.appendChanges(tasks.drainChanges());
+        storage.awaitCompaction();
+        tasks.unmarkTask(2);
+        storage.appendChanges(tasks.drainChanges());
+        storage.awaitCompaction();
+        assertEquals(true, Files.exists(rolledJournal));
+
+        storage.saveTasks(tasks);
+        tasks.markTask(2);
+        storage.appendChanges(tasks.drainChanges());
+        storage.awaitCompaction();
+        assertEquals(false, Files.exists(rolledJournal));
+        assertTaskInfos(storage.loadTasks().getTask(2), new String[] {"T", DONE_FLAG, "return book"});
+    }
+
+    @Test
+    void loadTasks_interruptedCompaction_recoversCompletedSnapshot() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        String delim = Storage.DELIM;
+        Files.writeString(file, "T" + delim + NOT_DONE_FLAG + delim + "stale snapshot");
+        Files.writeString(tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX
+                + JournalCompactor.ROLLED_JOURNAL_SUFFIX), "+" + delim + "2" + delim + "T" + delim
+                + NOT_DONE_FLAG + delim + "already compacted");
+        Files.writeString(tempDir.resolve("tasks.txt" + JournalCompactor.COMPLETED_SNAPSHOT_SUFFIX),
+                "T" + delim + NOT_DONE_FLAG + delim + "read book");
+
+        TaskList tasks = new Storage(file.toString()).loadTasks();
+
+        assertEquals(1, tasks.getTasks().size());
+        assertTaskInfos(tasks.getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+    }
+
+    @Test
+    void saveTasks_binaryFormat_roundTripsAllTaskTypes() throws IOException {
+        Path file = tempDir.resolve("tasks.bin");
+        Storage storage = new Storage(file.toString(), StorageFormat.BINARY);
+
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book", true));
+        tasks.addTask(new Deadline("submit report", false,
+                LocalDateTime.of(2024, 2, 1, 12, 30)));
+        tasks.addTask(new Event("meeting", true,
+                LocalDateTime.of(2024, 3, 10, 9, 0),
+                LocalDateTime.of(2024, 3, 10, 10, 30)));
+        storage.saveTasks(tasks);
+
+        TaskList loadedTasks = storage.loadTasks();
+        assertEquals(3, loadedTasks.getTasks().size());
+        assertTaskInfos(loadedTasks.getTask(1), new String[] {"T", DONE_FLAG, "read book"});
+        assertTaskInfos(loadedTasks.getTask(2),
+                new String[] {"D", NOT_DONE_FLAG, "submit report", "2024-02-01T12:30:00"});
+        assertTaskInfos(loadedTasks.getTask(3), new String[] {"E", DONE_FLAG, "meeting",
+                "2024-03-10T09:00:00", "2024-03-10T10:30:00"});
+    }
+
+    @Test
+    void loadTasks_textFileWithBinaryFormat_migratesToBinary() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Files.writeString(file, "T" + Storage.DELIM + DONE_FLAG + Storage.DELIM + "read book");
+
+        TaskList tasks = new Storage(file.toString(), StorageFormat.BINARY).loadTasks();
+
+        assertEquals(1, tasks.getTasks().size());
+        assertTaskInfos(tasks.getTask(1), new String[] {"T", DONE_FLAG, "read book"});
+        assertEquals(true, new BinaryTaskCodec().isBinaryFile(file));
+        assertTaskInfos(new Storage(file.toString()).loadTasks().getTask(1),
+                new String[] {"T", DONE_FLAG, "read book"});
+    }
+
+    @Test
+    void loadTasks_truncatedBinaryFile_throwsIoException() throws IOException {
+        Path file = tempDir.resolve("tasks.bin");
+        Storage storage = new Storage(file.toString(), StorageFormat.BINARY);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        storage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 2));
+
+        IOException exception = assertThrows(IOException.class, storage::loadTasks);
+        assertEquals("Data file is corrupted at task 1: invalid record length 15.", exception.getMessage());
+    }
+
+    @Test
+    void saveTasks_lazilyLoadedBinaryFile_keepsUndecodedTasks() throws IOException {
+        Path file = tempDir.resolve("tasks.bin");
+        Storage storage = new Storage(file.toString(), StorageFormat.BINARY);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("return book"));
+        tasks.addTask(new ToDo("buy milk"));
+        storage.saveTasks(tasks);
+
+        TaskList loadedTasks = storage.loadTasks();
+        loadedTasks.deleteTask(1);
+        loadedTasks.markTask(2);
+        storage.saveTasks(loadedTasks);
+
+        TaskList reloadedTasks = storage.loadTasks();
+        assertEquals(2, reloadedTasks.size());
+        assertTaskInfos(reloadedTasks.getTask(1), new String[] {"T", NOT_DONE_FLAG, "return book"});
+        assertTaskInfos(reloadedTasks.getTask(2), new String[] {"T", DONE_FLAG, "buy milk"});
+    }
+
+    @Test
+    void requestSave_burstOfChanges_isWrittenByShutdown() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+        PersistenceScheduler scheduler = new PersistenceScheduler(storage);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            tasks.addTask(new ToDo("task " + i));
+            scheduler.requestSave(tasks);
+        }
+        tasks.markTask(100);
+        scheduler.requestSave(tasks);
+
+        scheduler.shutdown(tasks);
+
+        TaskList loadedTasks = storage.loadTasks();
+        assertEquals(100, loadedTasks.size());
+        assertTaskInfos(loadedTasks.getTask(100), new String[] {"T", DONE_FLAG, "task 99"});
+    }
+
+    @Test
+    void saveNow_afterFailedBackgroundWrite_reportsErrorAndRewritesFile() throws IOException {
+        Path blocker = tempDir.resolve("data");
+        Files.writeString(blocker, "not a directory");
+        Path file = blocker.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+        PersistenceScheduler scheduler = new PersistenceScheduler(storage);
+        List<IOException> errors = new ArrayList<>();
+        scheduler.setErrorHandler(errors::add);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+
+        scheduler.requestSave(tasks);
+        assertThrows(IOException.class, () -> scheduler.saveNow(tasks));
+        Files.delete(blocker);
+        scheduler.saveNow(tasks);
+
+        assertEquals(1, errors.size());
+        assertTaskInfos(storage.loadTasks().getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+    }
+
+    @Test
+    void loadTasks_checksumMismatch_throwsIoException() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        storage.saveTasks(tasks);
+        Files.writeString(file, Files.readString(file).replace("read book", "read boot"));
+
+        IOException exception = assertThrows(IOException.class, storage::loadTasks);
+        assertEquals("Data file is corrupted at line 1: checksum mismatch.", exception.getMessage());
+    }
+
+    @Test
+    void recoverTasks_corruptedLineAndTornJournal_quarantinesOnlyThoseRecords() throws IOException {
+        Path file = tempDir.resolve("tasks.txt");
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("return book"));
+        tasks.addTask(new ToDo("buy milk"));
+        storage.saveTasks(tasks);
+        tasks.markTask(3);
+        tasks.addTask(new ToDo("walk dog"));
+        storage.appendChanges(tasks.drainChanges());
+        Files.writeString(file, Files.readString(file).replace("return book", "return boot"));
+        Path journal = tempDir.resolve("tasks.txt" + Storage.JOURNAL_SUFFIX);
+        String journalContent = Files.readString(journal);
+        Files.writeString(journal, journalContent.substring(0, journalContent.length() - 5));
+
+        assertThrows(IOException.class, storage::loadTasks);
+        RecoveredTasks recoveredTasks = storage.recoverTasks();
+
+        assertEquals(2, recoveredTasks.quarantinedCount());
+        assertEquals(2, recoveredTasks.tasks().size());
+        assertTaskInfos(recoveredTasks.tasks().getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+        assertTaskInfos(recoveredTasks.tasks().getTask(2), new String[] {"T", DONE_FLAG, "buy milk"});
+        String quarantined = Files.readString(recoveredTasks.quarantinePath());
+        assertEquals(true, quarantined.contains("# Data file is corrupted at line 2: checksum mismatch."));
+        assertEquals(true, quarantined.contains("return boot"));
+        assertEquals(true, quarantined.contains("# Journal file is corrupted at line 2: checksum mismatch."));
+        assertEquals(2, storage.loadTasks().size());
+    }
+
+    @Test
+    void recoverTasks_corruptedBinaryRecord_skipsOnlyThatRecord() throws IOException {
+        Path file = tempDir.resolve("tasks.bin");
+        Storage storage = new Storage(file.toString(), StorageFormat.BINARY);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Deadline("submit report", LocalDateTime.of(2024, 2, 1, 12, 30)));
+        tasks.addTask(new ToDo("buy milk"));
+        storage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(file);
+        String text = new String(content, StandardCharsets.ISO_8859_1);
+        content[text.indexOf("submit report")] = 'S';
+        Files.write(file, content);
+
+        RecoveredTasks recoveredTasks = storage.recoverTasks();
+
+        assertEquals(1, recoveredTasks.quarantinedCount());
+        assertEquals(2, recoveredTasks.tasks().size());
+        assertTaskInfos(recoveredTasks.tasks().getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+        assertTaskInfos(recoveredTasks.tasks().getTask(2), new String[] {"T", NOT_DONE_FLAG, "buy milk"});
+        assertEquals(2, storage.loadTasks().size());
+    }
+
+    @Test
+    void loadTasks_corruptedBinaryRecord_setsItAsideWhenFirstUsed() throws IOException {
+        Path file = tempDir.resolve("tasks.bin");
+        Path quarantineFile = tempDir.resolve("tasks.bin" + Storage.QUARANTINE_SUFFIX);
+        Storage storage = new Storage(file.toString(), StorageFormat.BINARY);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Deadline("submit report", LocalDateTime.of(2024, 2, 1, 12, 30)));
+        tasks.addTask(new ToDo("buy milk"));
+        storage.saveTasks(tasks);
+        byte[] content = Files.readAllBytes(file);
+        String text = new String(content, StandardCharsets.ISO_8859_1);
+        content[text.indexOf("submit report")] = 'S';
+        Files.write(file, content);
+
+        TaskList loadedTasks = storage.loadTasks();
+        assertTaskInfos(loadedTasks.getTask(1), new String[] {"T", NOT_DONE_FLAG, "read book"});
+        assertEquals(false, Files.exists(quarantineFile));
+        assertTaskInfos(loadedTasks.getTask(2), new String[] {"T", NOT_DONE_FLAG, "(corrupted task)"});
+        assertEquals(false, Files.exists(quarantineFile));
+
+        storage.saveTasks(loadedTasks);
+
+        String quarantined = Files.readString(quarantineFile);
+        assertEquals(true, quarantined.contains("# Data file is corrupted at task 2: checksum mismatch."));
+        assertEquals(3, storage.loadTasks().size());
+    }
+
+    private String withChecksum(String record) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.getBytes(StandardCharsets.UTF_8));
+        return String.format("#%08x", checksum.getValue()) + Storage.DELIM + record;
+    }
+
     private void assertTaskInfos(Task task, String[] expected) {
         assertArrayEquals(expected, task.getInfos(timeFormatter));
     }
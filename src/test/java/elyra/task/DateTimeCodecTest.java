@@ -0,0 +1,41 @@
+package elyra.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeCodecTest {
+    @Test
+    void parseInput_everyMinuteOfLeapDay_matchesFormatter() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 0, 0);
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            String text = dateTime.format(DateTimeCodec.INPUT_FORMATTER);
+            assertEquals(LocalDateTime.parse(text, DateTimeCodec.INPUT_FORMATTER), DateTimeCodec.parseInput(text));
+            dateTime = dateTime.plusMinutes(1);
+        }
+    }
+
+    @Test
+    void parseInput_invalidDateTimes_throwLikeFormatter() {
+        String[] invalidTexts = {"2023-02-29 10:00", "2024-04-31 10:00", "2024-01-01 24:00", "2024-01-01 10:60",
+            "2024-1-01 10:00", "2024-01-01T10:00", "2024-01-01 10:00:00", "\uFF12\uFF10\uFF12\uFF14-01-01 10:00", ""};
+        for (String text : invalidTexts) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseInput(text));
+        }
+    }
+
+    @Test
+    void parseStorage_layoutsWrittenAndAccepted_matchFormatter() {
+        String[] texts = {"2024-02-01T12:30:00", "2024-02-01T12:30", "2024-02-01T12:30:45.5", "+10000-01-01T00:00:00",
+            "0000-01-01T00:00:00"};
+        for (String text : texts) {
+            assertEquals(LocalDateTime.parse(text, DateTimeCodec.STORAGE_FORMATTER), DateTimeCodec.parseStorage(text));
+        }
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseStorage("2024-02-30T12:30:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseStorage("2024-02-01 12:30:00"));
+    }
+}
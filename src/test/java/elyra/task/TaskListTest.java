@@ -0,0 +1,272 @@
+package elyra.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskListTest {
+    @Test
+    void findTasksByKeyword_mixedCaseKeyword_returnsMatchesInListOrder() {
+        TaskList tasks = new TaskList(List.of(new ToDo("Read Book"), new ToDo("buy milk"),
+                new ToDo("return BOOK")));
+
+        assertEquals(List.of("Read Book", "return BOOK"), getDescriptions(tasks.findTasksByKeyword("bOOk")));
+    }
+
+    @Test
+    void findTasksByKeyword_shortKeyword_matchesSubstrings() {
+        TaskList tasks = new TaskList(List.of(new ToDo("read book"), new ToDo("buy milk")));
+
+        assertEquals(List.of("read book"), getDescriptions(tasks.findTasksByKeyword("ok")));
+        assertEquals(List.of("read book", "buy milk"), getDescriptions(tasks.findTasksByKeyword("")));
+    }
+
+    @Test
+    void findTasksByKeyword_afterMutations_reflectsCurrentDescriptions() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("buy milk"));
+        tasks.findTasksByKeyword("book");
+
+        tasks.addTask(new ToDo("return book"));
+        tasks.deleteTask(1);
+        tasks.updateTask(1, "description", "buy book", null);
+
+        assertEquals(List.of("buy book", "return book"), getDescriptions(tasks.findTasksByKeyword("book")));
+        assertEquals(List.of(), getDescriptions(tasks.findTasksByKeyword("milk")));
+    }
+
+    @Test
+    void findEventsBetween_overlappingAndTouchingEvents_returnsOverlapsByStartTime() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("lunch", at(12), at(13)));
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Event("standup", at(9), at(10)));
+        tasks.addTask(new Event("review", at(10), at(11)));
+
+        assertEquals(List.of("standup", "review", "lunch"),
+                getDescriptions(tasks.findEventsBetween(at(9), at(13))));
+        assertEquals(List.of("review"), getDescriptions(tasks.findEventsBetween(at(10), at(12))));
+    }
+
+    @Test
+    void findEventsBetween_afterMutations_reflectsCurrentTimes() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("standup", at(9), at(10)));
+        tasks.addTask(new Event("review", at(10), at(11)));
+        tasks.findEventsBetween(at(0), at(23));
+
+        tasks.deleteTask(1);
+        tasks.updateTask(1, "from", null, at(14));
+        tasks.updateTask(1, "to", null, at(15));
+        tasks.addTask(new Event("lunch", at(12), at(13)));
+
+        assertEquals(List.of("lunch", "review"), getDescriptions(tasks.findEventsBetween(at(9), at(16))));
+    }
+
+    @Test
+    void findFreeSlots_overlappingEvents_returnsGapsBetweenThem() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("workshop", at(8), at(11)));
+        tasks.addTask(new Event("standup", at(9), at(10)));
+        tasks.addTask(new Event("lunch", at(12), at(13)));
+
+        assertEquals(List.of(new TimeSlot(at(11), at(12)), new TimeSlot(at(13), at(18))),
+                tasks.findFreeSlots(at(9), at(18)));
+    }
+
+    @Test
+    void findEarliestDeadlines_afterMarkAndUpdate_returnsUndoneDeadlinesByDueTime() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Deadline("report", at(17)));
+        tasks.addTask(new Deadline("essay", at(9)));
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Deadline("slides", at(12)));
+        tasks.findEarliestDeadlines(1);
+
+        tasks.markTask(2);
+        tasks.updateTask(1, "by", null, at(10));
+        tasks.addTask(new Deadline("quiz", at(11)));
+
+        assertEquals(List.of("report", "quiz"), getDescriptions(tasks.findEarliestDeadlines(2)));
+        tasks.unmarkTask(2);
+        assertEquals(List.of("essay", "report", "quiz", "slides"),
+                getDescriptions(tasks.findEarliestDeadlines(10)));
+    }
+
+    @Test
+    void findDeadlinesDueBefore_mixedDeadlines_returnsUndoneOnesDueEarlier() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Deadline("report", at(17)));
+        tasks.addTask(new Deadline("essay", at(9)));
+        tasks.addTask(new Deadline("slides", at(12)));
+        tasks.addTask(new Deadline("quiz", at(8)));
+        tasks.markTask(4);
+
+        assertEquals(List.of("essay", "slides"), getDescriptions(tasks.findDeadlinesDueBefore(at(17))));
+    }
+
+    @Test
+    void deleteTask_repeatedlyFromFront_keepsIndicesAndSearchesConsistent() {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 3000; i++) {
+            tasks.addTask(new ToDo("task " + i));
+        }
+        tasks.findTasksByKeyword("task 2999");
+
+        for (int i = 0; i < 2000; i++) {
+            assertEquals("task " + i, tasks.deleteTask(1).getDescription());
+        }
+
+        assertEquals(1000, tasks.size());
+        assertEquals("task 2000", tasks.getTask(1).getDescription());
+        assertEquals("task 2999", tasks.getTask(1000).getDescription());
+        assertEquals(List.of("task 2999"), getDescriptions(tasks.findTasksByKeyword("task 2999")));
+    }
+
+    @Test
+    void snapshot_listChangedAfterwards_keepsTasksAndSearchResults() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Deadline("report", at(17)));
+        TaskList snapshot = tasks.snapshot();
+
+        tasks.markTask(2);
+        tasks.updateTask(1, "description", "buy milk", null);
+        tasks.addTask(new ToDo("return book"));
+
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of("read book", "report"), getDescriptions(new ArrayList<>(snapshot.getTasks())));
+        assertEquals(List.of("read book"), getDescriptions(snapshot.findTasksByKeyword("book")));
+        assertEquals(List.of("report"), getDescriptions(snapshot.findEarliestDeadlines(5)));
+        assertEquals(List.of("return book"), getDescriptions(tasks.findTasksByKeyword("book")));
+        assertEquals(List.of(), getDescriptions(tasks.findEarliestDeadlines(5)));
+    }
+
+    @Test
+    void snapshot_mutation_isRejected() {
+        TaskList tasks = new TaskList(List.of(new ToDo("read book")));
+        TaskList snapshot = tasks.snapshot();
+
+        assertThrows(IllegalStateException.class, () -> snapshot.addTask(new ToDo("buy milk")));
+        assertThrows(IllegalStateException.class, () -> snapshot.markTask(1));
+        assertThrows(IllegalStateException.class, snapshot::drainChanges);
+        assertEquals(1, tasks.size());
+        assertEquals(false, tasks.getTask(1).isDone());
+    }
+
+    @Test
+    void findTasksByKeyword_manyChangesSinceFirstSearch_matchesCurrentDescriptions() {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 1000; i++) {
+            tasks.addTask(new Deadline("task " + i, at(i % 24)));
+        }
+        tasks.findTasksByKeyword("task");
+        tasks.findEarliestDeadlines(1);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 == 0) {
+                tasks.updateTask(i + 1, "description", "chore " + i, null);
+                tasks.markTask(i + 1);
+            } else {
+                expected.add("task " + i);
+            }
+        }
+
+        assertEquals(expected, getDescriptions(tasks.findTasksByKeyword("task")));
+        assertEquals(1000 - expected.size(), tasks.findTasksByKeyword("chore").size());
+        assertEquals(List.of("task 1", "task 25", "task 49"), getDescriptions(tasks.findEarliestDeadlines(3)));
+    }
+
+    @Test
+    void findTasksByKeyword_manyDeletionsAndAdditionsSinceFirstSearch_matchesCurrentTasks() {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 300; i++) {
+            tasks.addTask(new ToDo("old " + i));
+        }
+        tasks.findTasksByKeyword("old");
+
+        for (int i = 0; i < 299; i++) {
+            tasks.deleteTask(1);
+            tasks.addTask(new ToDo("new " + i));
+        }
+
+        assertEquals(List.of("old 299"), getDescriptions(tasks.findTasksByKeyword("old")));
+        assertEquals(299, tasks.findTasksByKeyword("new").size());
+        assertEquals(List.of("old 299"), getDescriptions(tasks.findTasksByKeyword("d")));
+    }
+
+    @Test
+    void queries_manyMarksAfterIndexing_onlyReadChangedTasks() {
+        int[] reads = new int[1];
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 5000; i++) {
+            tasks.addTask(new CountingDeadline("task " + i, at(i % 24), reads));
+        }
+        tasks.findTasksByKeyword("task 4999");
+        tasks.findEarliestDeadlines(1);
+
+        reads[0] = 0;
+        for (int i = 0; i < 300; i++) {
+            tasks.markTask(i * 16 + 1);
+        }
+        tasks.findTasksByKeyword("task 4999");
+        tasks.findEarliestDeadlines(1);
+
+        // Moving a marked task into the indexes reads it a few times; indexing the list again would read every task.
+        assertTrue(reads[0] < 5 * 300, reads[0] + " reads");
+    }
+
+    @Test
+    void findEarliestDeadlines_maxCountWithChanges_returnsAllUndoneDeadlines() {
+        TaskList tasks = new TaskList(List.of(new Deadline("submit report", at(12)), new Deadline("pay rent", at(9)),
+                new Deadline("book flight", at(10))));
+        tasks.updateTask(3, "description", "book hotel", null);
+
+        assertEquals(List.of("pay rent", "book hotel", "submit report"),
+                getDescriptions(tasks.findEarliestDeadlines(Integer.MAX_VALUE)));
+    }
+
+    private List<String> getDescriptions(ArrayList<Task> tasks) {
+        List<String> descriptions = new ArrayList<>();
+        for (Task task : tasks) {
+            descriptions.add(task.getDescription());
+        }
+        return descriptions;
+    }
+
+    private LocalDateTime at(int hour) {
+        return LocalDateTime.of(2024, 3, 1, hour, 0);
+    }
+
+    /**
+     * Represents a deadline that counts how often its description and due time are read, including by its copies.
+     */
+    private static class CountingDeadline extends Deadline {
+        private final int[] reads;
+
+        private CountingDeadline(String description, LocalDateTime by, int[] reads) {
+            super(description, by);
+            this.reads = reads;
+        }
+
+        @Override
+        public String getDescription() {
+            this.reads[0] += 1;
+            return super.getDescription();
+        }
+
+        @Override
+        public LocalDateTime getBy() {
+            this.reads[0] += 1;
+            return super.getBy();
+        }
+    }
+}
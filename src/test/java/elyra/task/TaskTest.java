@@ -0,0 +1,67 @@
+package elyra.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskTest {
+    private final DateTimeFormatter uiFormatter = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm");
+
+    @Test
+    void toUiString_unchangedTask_returnsCachedString() {
+        Task task = new Deadline("return book", LocalDateTime.of(2024, 2, 1, 12, 30));
+
+        String first = task.toUiString(this.uiFormatter);
+
+        assertEquals("[D][ ] return book (by: 01/02/2024 12:30)", first);
+        assertSame(first, task.toUiString(this.uiFormatter));
+    }
+
+    @Test
+    void toUiString_afterChanges_reflectsCurrentState() {
+        Task task = new Event("meeting", LocalDateTime.of(2024, 2, 1, 10, 0), LocalDateTime.of(2024, 2, 1, 11, 0));
+        task.toUiString(this.uiFormatter);
+
+        task.setDone(true);
+        assertEquals("[E][X] meeting (from: 01/02/2024 10:00 to: 01/02/2024 11:00)", task.toUiString(this.uiFormatter));
+        task.updateField("description", "standup", null);
+        task.updateField("to", null, LocalDateTime.of(2024, 2, 1, 10, 15));
+        assertEquals("[E][X] standup (from: 01/02/2024 10:00 to: 01/02/2024 10:15)", task.toUiString(this.uiFormatter));
+    }
+
+    @Test
+    void toUiString_otherFormatter_formatsAgain() {
+        Task task = new Deadline("return book", LocalDateTime.of(2024, 2, 1, 12, 30));
+        task.toUiString(this.uiFormatter);
+
+        assertEquals("[D][ ] return book (by: 2024-02-01T12:30:00)",
+                task.toUiString(DateTimeCodec.STORAGE_FORMATTER));
+    }
+
+    @Test
+    void getInfos_callerChangesArray_cacheIsUnaffected() {
+        Task task = new ToDo("read book");
+
+        task.getInfos(DateTimeCodec.STORAGE_FORMATTER)[2] = "changed";
+
+        assertArrayEquals(new String[] {"T", "0", "read book"}, task.getInfos(DateTimeCodec.STORAGE_FORMATTER));
+    }
+
+    @Test
+    void updateField_unsupportedField_keepsCachedState() {
+        Task task = new ToDo("read book");
+        String before = task.toUiString(this.uiFormatter);
+
+        assertThrows(UnsupportedOperationException.class, () -> task.updateField("by", null, LocalDateTime.now()));
+        task.setDone(true);
+
+        assertEquals("[T][ ] read book", before);
+        assertEquals("[T][X] read book", task.toUiString(this.uiFormatter));
+    }
+}